@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# Builds the fast-start layout: an extracted jar plus a JDK 21 AppCDS archive
+# produced by a training run that boots the context and exits after refresh.
+#
+# Requires the same datasource settings as production (Flyway and Hibernate run
+# during training), e.g. SPRING_DATASOURCE_URL / _USERNAME / _PASSWORD.
+#
+# Usage: scripts/build-cds-archive.sh [output-dir]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+OUT_DIR="${1:-target/fast-start}"
+
+./mvnw -B -q -DskipTests package
+JAR="$(ls target/backend-*.jar | grep -v original | head -n 1)"
+
+rm -rf "$OUT_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT_DIR"
+
+APP_JAR="$OUT_DIR/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$OUT_DIR/application.jsa" \
+     -Dspring.context.exit=onRefresh \
+     -jar "$APP_JAR" --spring.profiles.active=fast-start
+
+echo "Run with: java -XX:SharedArchiveFile=$OUT_DIR/application.jsa -jar $APP_JAR --spring.profiles.active=fast-start"
@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Compares context startup wall time of the default mode against the fast-start
+# mode (CDS archive + fast-start profile). Each run exits right after context refresh.
+# Averages and the gain over default mode are also written as a markdown table to
+# target/fast-start/startup-results.md, to paste into the deploy change that enables the mode.
+#
+# Run scripts/build-cds-archive.sh first. Usage: scripts/measure-startup.sh [runs]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS="${1:-5}"
+OUT_DIR="target/fast-start"
+APP_JAR="$(ls "$OUT_DIR"/backend-*.jar | head -n 1)"
+
+RESULTS="$OUT_DIR/startup-results.md"
+BASELINE=0
+
+measure() {
+    local label="$1"; shift
+    local total=0
+    for _ in $(seq "$RUNS"); do
+        local start end
+        start=$(date +%s%N)
+        java -Dspring.context.exit=onRefresh "$@" > /dev/null 2>&1
+        end=$(date +%s%N)
+        total=$(( total + (end - start) / 1000000 ))
+    done
+    local average=$(( total / RUNS ))
+    if [ "$BASELINE" -eq 0 ]; then
+        BASELINE=$average
+    fi
+    local gain=$(( (BASELINE - average) * 100 / BASELINE ))
+    echo "$label: $average ms average over $RUNS runs ($gain% faster than default)"
+    echo "| $label | $average | $gain% |" >> "$RESULTS"
+}
+
+{
+    echo "Startup measured $(date -u +%Y-%m-%dT%H:%M:%SZ) on $(java -version 2>&1 | head -n 1), $RUNS runs each"
+    echo
+    echo "| Mode | Average ms | Gain |"
+    echo "|------|-----------:|-----:|"
+} > "$RESULTS"
+
+measure "default            " -jar "$APP_JAR"
+measure "fast-start, no CDS " -jar "$APP_JAR" --spring.profiles.active=fast-start
+measure "fast-start with CDS" -XX:SharedArchiveFile="$OUT_DIR/application.jsa" -jar "$APP_JAR" --spring.profiles.active=fast-start
+
+echo "Results table written to $RESULTS"
@@ -2,12 +2,20 @@ package com.bugreportplus.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class BackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BackendApplication.class, args);
+		SpringApplication application = new SpringApplication(BackendApplication.class);
+
+		// -Dbugreport.startup.record-steps=true exposes per-step startup timings at /actuator/startup
+		if (Boolean.getBoolean("bugreport.startup.record-steps")) {
+			application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		}
+
+		application.run(args);
 	}
 
 }
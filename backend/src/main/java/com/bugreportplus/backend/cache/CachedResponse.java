@@ -0,0 +1,36 @@
+package com.bugreportplus.backend.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Already-serialized JSON body, optionally with a pre-gzipped copy, plus its ETag
+ */
+public record CachedResponse(byte[] json, byte[] gzipped, String etag) {
+
+    public int sizeInBytes() {
+        return json.length + (gzipped == null ? 0 : gzipped.length);
+    }
+
+    /**
+     * Builds the HTTP response: 304 when the client's ETag still matches,
+     * the gzipped body when the client accepts it, the plain JSON bytes otherwise
+     */
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding, String ifNoneMatch) {
+        if(etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if(gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+        }
+        return response.body(json);
+    }
+}
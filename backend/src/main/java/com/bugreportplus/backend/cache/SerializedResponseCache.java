@@ -0,0 +1,208 @@
+package com.bugreportplus.backend.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded LRU cache of serialized JSON for hot bug detail and comment-thread reads.
+ *
+ * Misses are single-flight: concurrent requests for the same key wait on the one load in
+ * progress instead of each querying the database. Entries are dropped by the BugService /
+ * CommentService write paths, immediately and again after the transaction commits, so a
+ * load that read pre-commit data cannot survive the write. A load overlapping an
+ * invalidation is served to its waiters but never stored.
+ *
+ * Entries are keyed by id and version: callers pass the bug's last_activity_at, read from
+ * the database on each request, which every bug write and comment post or delete moves.
+ * A write made on another node therefore misses here on the next read even though the
+ * explicit invalidation above is node-local. Entries also expire after
+ * bugreport.response-cache.ttl-seconds, which bounds memory held by bugs no longer read.
+ */
+@Component
+public class SerializedResponseCache {
+
+    public enum Kind {
+        BUG, COMMENTS;
+    }
+
+    private record Key(Kind kind, Long id) {
+    }
+
+    private record Entry(Object version, CachedResponse response, long expiresAtNanos) {
+    }
+
+    private static final class Load {
+        private final Object version;
+        private final CompletableFuture<Optional<CachedResponse>> future = new CompletableFuture<>();
+        // Set and read under the entries lock, so a load cannot be stored after it was evicted
+        private boolean stale;
+
+        private Load(Object version) {
+            this.version = version;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntryBytes;
+    private final int gzipMinBytes;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+    private final ConcurrentHashMap<Key, Load> loads = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    // Constructor
+    public SerializedResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                   @Value("${bugreport.response-cache.max-entries:1000}") int maxEntries,
+                                   @Value("${bugreport.response-cache.max-entry-bytes:262144}") int maxEntryBytes,
+                                   @Value("${bugreport.response-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+                                   @Value("${bugreport.response-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.maxEntryBytes = maxEntryBytes;
+        this.gzipMinBytes = gzipMinBytes;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = meterRegistry.counter("bugreport.response_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("bugreport.response_cache.requests", "result", "miss");
+        this.coalesced = meterRegistry.counter("bugreport.response_cache.requests", "result", "coalesced");
+    }
+
+    /**
+     * Returns the cached serialized response of this version, loading and serializing it on a miss.
+     * An empty loader result (e.g. bug not found) is returned but not cached.
+     */
+    public Optional<CachedResponse> get(Kind kind, Long id, Object version, Supplier<Optional<?>> loader) {
+        Key key = new Key(kind, id);
+
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if(cached != null && (!Objects.equals(cached.version(), version) || System.nanoTime() - cached.expiresAtNanos() >= 0)) {
+                entries.remove(key);
+                cached = null;
+            }
+        }
+        if(cached != null) {
+            hits.increment();
+            return Optional.of(cached.response());
+        }
+
+        Load load = new Load(version);
+        Load inProgress = loads.putIfAbsent(key, load);
+        if(inProgress != null && Objects.equals(inProgress.version, version)) {
+            coalesced.increment();
+            return await(inProgress);
+        }
+        // A load of another version is in progress: load this one alone, without joining or storing
+        boolean single = inProgress == null;
+
+        misses.increment();
+        try {
+            Optional<CachedResponse> response = loader.get().map(this::serialize);
+            response.filter(r -> single && r.sizeInBytes() <= maxEntryBytes).ifPresent(r -> {
+                synchronized (entries) {
+                    if(!load.stale) {
+                        entries.put(key, new Entry(version, r, System.nanoTime() + ttlNanos));
+                    }
+                }
+            });
+            load.future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            load.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    public void invalidate(Kind kind, Long id) {
+        Key key = new Key(kind, id);
+        evict(key);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    private void evict(Key key) {
+        synchronized (entries) {
+            entries.remove(key);
+
+            Load load = loads.remove(key);
+            if(load != null) {
+                load.stale = true;
+            }
+        }
+    }
+
+    private static Optional<CachedResponse> await(Load load) {
+        try {
+            return load.future.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedResponse serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] gzipped = json.length >= gzipMinBytes ? gzip(json) : null;
+
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + json.length + "\"";
+
+            return new CachedResponse(json, gzipped, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
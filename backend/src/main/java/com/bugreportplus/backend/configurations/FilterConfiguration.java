@@ -0,0 +1,56 @@
+package com.bugreportplus.backend.configurations;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bugreportplus.backend.filters.ConcurrencyLimitFilter;
+import com.bugreportplus.backend.filters.ConcurrencyLimitProperties;
+import com.bugreportplus.backend.filters.RateLimitFilter;
+import com.bugreportplus.backend.filters.RateLimitProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, ConcurrencyLimitProperties.class})
+public class FilterConfiguration {
+
+    // Load shedding runs before Spring Security (order -100) so rejected requests cost as little as possible
+    private static final int CONCURRENCY_LIMIT_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 10;
+
+    // Spring Security's filter chain is registered at order -100, rate limiting needs the user it resolves
+    private static final int RATE_LIMIT_FILTER_ORDER = 10;
+
+    @Bean
+    @ConditionalOnProperty(name = "bugreport.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitFilter(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bugreport.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(ConcurrencyLimitFilter concurrencyLimitFilter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(CONCURRENCY_LIMIT_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bugreport.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bugreport.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(RATE_LIMIT_FILTER_ORDER);
+        return registration;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bugreportplus.backend.configurations;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.bugreportplus.backend.jobs.BugRollupProperties;
+import com.bugreportplus.backend.jobs.SlaEscalationProperties;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({SlaEscalationProperties.class, BugRollupProperties.class})
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,18 @@
+package com.bugreportplus.backend.configurations;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bugreportplus.backend.webhooks.WebhookClient;
+import com.bugreportplus.backend.webhooks.WebhookProperties;
+
+@Configuration
+@EnableConfigurationProperties(WebhookProperties.class)
+public class WebhookConfiguration {
+
+    @Bean
+    public WebhookClient webhookClient(WebhookProperties properties) {
+        return new WebhookClient(properties.getConnectTimeout(), properties.getRequestTimeout());
+    }
+}
@@ -0,0 +1,88 @@
+package com.bugreportplus.backend.controllers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.BugRollup;
+import com.bugreportplus.backend.services.AnalyticsService;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class AnalyticsController {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(30);
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(3 * 366);
+
+    private final AnalyticsService analyticsService;
+
+    // Constructor
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    /**
+     * GET /api/v1/analytics/trend?from=&to=&granularity=day|hour&projectId=&status=&priority=&assigneeId=
+     * Retrieve bugs created/resolved/reopened and status transitions per bucket with mean resolution time,
+     * from the rollups. status filters on the status moved to; created bugs count under OPEN.
+     * from/to are ISO-8601 instants, defaulting to the last 30 days. Requires QA or ADMIN role
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<?> getTrend(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                      @RequestParam(defaultValue = "day") String granularity,
+                                      @RequestParam(required = false) Long projectId,
+                                      @RequestParam(required = false) Bug.Status status,
+                                      @RequestParam(required = false) Bug.Priority priority,
+                                      @RequestParam(required = false) Long assigneeId) {
+        BugRollup.Granularity bucket;
+        try {
+            bucket = BugRollup.Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("granularity must be hour or day.");
+        }
+
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        Duration maxRange = bucket == BugRollup.Granularity.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if(!start.isBefore(end) || Duration.between(start, end).compareTo(maxRange) > 0) {
+            return ResponseEntity.badRequest().body("from must be before to, spanning at most " + maxRange.toDays() + " days.");
+        }
+
+        return ResponseEntity.ok(analyticsService.getTrend(bucket, start, end, projectId, status, priority, assigneeId));
+    }
+
+    /**
+     * GET /api/v1/analytics/mttr?from=&to=&projectId=
+     * Retrieve mean time to resolution per priority for bugs resolved in the range. Requires QA or ADMIN role
+     */
+    @GetMapping("/mttr")
+    public ResponseEntity<?> getMttr(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                     @RequestParam(required = false) Long projectId) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        if(!start.isBefore(end)) {
+            return ResponseEntity.badRequest().body("from must be before to.");
+        }
+
+        return ResponseEntity.ok(analyticsService.getMttr(start, end, projectId));
+    }
+
+    /**
+     * POST /api/v1/analytics/rebuild
+     * Recompute all rollups from scratch, starting on the rollup job's next run. Reports keep serving
+     * the current rollups until the rebuild has caught up. Requires ADMIN role
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        analyticsService.requestRebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.bugreportplus.backend.controllers;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bugreportplus.backend.services.CommentService;
+
+@RestController
+@RequestMapping("api/v1/comments")
+public class BatchCommentController {
+
+    private static final int MAX_BUG_IDS = 100;
+    private static final int MAX_PER_BUG = 50;
+
+    private final CommentService commentService;
+
+    // Constructor
+    public BatchCommentController(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    /**
+     * GET /api/v1/comments?bugIds=1,2,3&perBug=5
+     * Retrieve the latest perBug comments (newest first) for up to 100 bugs in one request, keyed by bug id
+     */
+    @GetMapping
+    public ResponseEntity<?> getLatestComments(@RequestParam List<Long> bugIds,
+                                               @RequestParam(defaultValue = "5") int perBug) {
+        List<Long> distinctBugIds = bugIds.stream().distinct().toList();
+
+        if(distinctBugIds.isEmpty() || distinctBugIds.size() > MAX_BUG_IDS) {
+            return ResponseEntity.badRequest().body("bugIds must contain between 1 and " + MAX_BUG_IDS + " ids.");
+        }
+
+        if(perBug < 1 || perBug > MAX_PER_BUG) {
+            return ResponseEntity.badRequest().body("perBug must be between 1 and " + MAX_PER_BUG + ".");
+        }
+
+        return ResponseEntity.ok(commentService.getLatestCommentsByBugIds(distinctBugIds, perBug));
+    }
+}
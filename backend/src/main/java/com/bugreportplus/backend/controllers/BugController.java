@@ -3,11 +3,14 @@ package com.bugreportplus.backend.controllers;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.bugreportplus.backend.cache.SerializedResponseCache;
+import com.bugreportplus.backend.dto.BugField;
 import com.bugreportplus.backend.models.Bug;
 import com.bugreportplus.backend.models.User;
 import com.bugreportplus.backend.services.BugService;
@@ -23,10 +26,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class BugController {
     
     private final BugService bugService;
+    private final SerializedResponseCache responseCache;
     
     // Constructor
-    public BugController(BugService bugService) {
+    public BugController(BugService bugService, SerializedResponseCache responseCache) {
         this.bugService = bugService;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -40,13 +45,62 @@ public class BugController {
     }
 
     /**
-     * GET /api/v1/bugs
-     * Retrieve all bug reports. Requires QA or ADMIN role
+     * GET /api/v1/bugs?fields=id,title,...&view=compact|full&projectId=
+     * Retrieve all bug reports, or only those of projectId when given. Requires QA or ADMIN role
+     * Defaults to a compact view (id, title, status, priority, assigneeName), fields= selects
+     * specific columns and view=full returns the complete bug entities.
+     * Returns 400 for an unknown view, or fields combined with view=full
      */
     @GetMapping
-    public ResponseEntity<List<Bug>> getAllBugs() {
-        List<Bug> bugs = bugService.findAllBugs();
-        return ResponseEntity.ok(bugs);
+    public ResponseEntity<?> getAllBugs(@RequestParam(required = false) String fields,
+                                        @RequestParam(defaultValue = "compact") String view,
+                                        @RequestParam(required = false) Long projectId) {
+        if(!(view.equals("compact") || view.equals("full"))) {
+            return ResponseEntity.badRequest().body("view must be compact or full.");
+        }
+        if(view.equals("full")) {
+            if(fields != null) {
+                return ResponseEntity.badRequest().body("fields cannot be combined with view=full.");
+            }
+            List<Bug> bugs = bugService.findAllBugs(projectId);
+            return ResponseEntity.ok(bugs);
+        }
+
+        try {
+            List<BugField> selectedFields = fields == null ? BugField.COMPACT : BugField.parse(fields);
+            return ResponseEntity.ok(bugService.findAllBugs(selectedFields, projectId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * GET /api/v1/bugs/active?sort=activity|comments&limit=20
+     * Retrieve the most recently active (default) or most commented bugs. Requires QA or ADMIN role
+     */
+    @GetMapping("/active")
+    public ResponseEntity<List<Bug>> getMostActiveBugs(@RequestParam(defaultValue = "activity") String sort,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        if(limit < 1 || limit > 100 || !(sort.equals("activity") || sort.equals("comments"))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(bugService.findMostActiveBugs(sort.equals("comments"), limit));
+    }
+
+    /**
+     * GET /api/v1/bugs/{id}
+     * Retrieve a single bug report, including archived ones.
+     * Served from the pre-serialized response cache, gzipped when the client accepts it
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getBugById(@PathVariable Long id,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.get(SerializedResponseCache.Kind.BUG, id, bugService.findResponseVersion(id),
+                        () -> bugService.findBugById(id))
+                .map(cached -> cached.toResponseEntity(acceptEncoding, ifNoneMatch))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -2,12 +2,14 @@ package com.bugreportplus.backend.controllers;
 
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bugreportplus.backend.cache.SerializedResponseCache;
 import com.bugreportplus.backend.models.*;
 import com.bugreportplus.backend.services.*;
 
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,19 +18,27 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("api/v1/bugs/{bugId}/comments")
 public class CommentController {
     private final CommentService commentService;
+    private final BugService bugService;
+    private final SerializedResponseCache responseCache;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, BugService bugService, SerializedResponseCache responseCache) {
         this.commentService = commentService;
+        this.bugService = bugService;
+        this.responseCache = responseCache;
     }
 
     /**
      * GET /api/v1/bugs/{bugId}/comments
-     * Retrieve all comments of a given bug
+     * Retrieve all comments of a given bug, served from the pre-serialized response cache
      */
     @GetMapping
-    public ResponseEntity<List<Comment>> getCommentsForBug(@PathVariable Long bugId) {
-        List<Comment> comments = commentService.getCommentByBugId(bugId);
-        return ResponseEntity.ok(comments);
+    public ResponseEntity<byte[]> getCommentsForBug(@PathVariable Long bugId,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.get(SerializedResponseCache.Kind.COMMENTS, bugId, bugService.findResponseVersion(bugId),
+                        () -> Optional.of(commentService.getCommentByBugId(bugId)))
+                .map(cached -> cached.toResponseEntity(acceptEncoding, ifNoneMatch))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
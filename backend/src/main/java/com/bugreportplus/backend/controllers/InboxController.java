@@ -0,0 +1,43 @@
+package com.bugreportplus.backend.controllers;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.bugreportplus.backend.dto.InboxItem;
+import com.bugreportplus.backend.models.User;
+import com.bugreportplus.backend.services.InboxService;
+
+@RestController
+@RequestMapping("/api/v1/me")
+public class InboxController {
+
+    private final InboxService inboxService;
+
+    // Constructor
+    public InboxController(InboxService inboxService) {
+        this.inboxService = inboxService;
+    }
+
+    /**
+     * GET /api/v1/me/inbox
+     * Retrieve bugs assigned to or reported by the current user, with comment and unread counts
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<List<InboxItem>> getInbox(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(inboxService.getInbox(user.getId()));
+    }
+
+    /**
+     * PUT /api/v1/me/inbox/{bugId}/seen
+     * Marks all current activity on a bug as seen by the current user
+     */
+    @PutMapping("/inbox/{bugId}/seen")
+    public ResponseEntity<Void> markSeen(@PathVariable Long bugId, @AuthenticationPrincipal User user) {
+        return inboxService.markSeen(user, bugId)
+                .map(bugRead -> ResponseEntity.noContent().<Void>build())
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
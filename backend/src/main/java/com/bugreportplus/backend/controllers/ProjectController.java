@@ -0,0 +1,99 @@
+package com.bugreportplus.backend.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.bugreportplus.backend.dto.ProjectStats;
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.Comment;
+import com.bugreportplus.backend.models.Project;
+import com.bugreportplus.backend.services.ProjectService;
+
+@RestController
+@RequestMapping("/api/v1/projects")
+public class ProjectController {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final ProjectService projectService;
+
+    // Constructor
+    public ProjectController(ProjectService projectService) {
+        this.projectService = projectService;
+    }
+
+    /**
+     * GET /api/v1/projects
+     * Retrieve all projects
+     */
+    @GetMapping
+    public ResponseEntity<List<Project>> getAllProjects() {
+        return ResponseEntity.ok(projectService.findAllProjects());
+    }
+
+    /**
+     * POST /api/v1/projects
+     * Create a new project. Requires ADMIN role
+     */
+    @PostMapping
+    public ResponseEntity<?> createProject(@RequestBody Project project) {
+        if(project.getProjectKey() == null || project.getProjectKey().isBlank()
+                || project.getName() == null || project.getName().isBlank()) {
+            return ResponseEntity.badRequest().body("Project key and name are required.");
+        }
+
+        try {
+            return new ResponseEntity<>(projectService.createProject(project), HttpStatus.CREATED);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    /**
+     * GET /api/v1/projects/{projectId}/bugs?limit=50
+     * Retrieve the project's most recently active bugs. Requires QA or ADMIN role
+     */
+    @GetMapping("/{projectId}/bugs")
+    public ResponseEntity<List<Bug>> getProjectBugs(@PathVariable Long projectId,
+                                                    @RequestParam(defaultValue = "50") int limit) {
+        return projectService.findProjectBugs(projectId, Math.min(Math.max(limit, 1), MAX_LIMIT))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/projects/{projectId}/bugs/{bugId}
+     * Retrieve a single bug within its project
+     */
+    @GetMapping("/{projectId}/bugs/{bugId}")
+    public ResponseEntity<Bug> getProjectBug(@PathVariable Long projectId, @PathVariable Long bugId) {
+        return projectService.findProjectBug(projectId, bugId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/projects/{projectId}/bugs/{bugId}/comments
+     * Retrieve all comments of a bug within its project
+     */
+    @GetMapping("/{projectId}/bugs/{bugId}/comments")
+    public ResponseEntity<List<Comment>> getProjectBugComments(@PathVariable Long projectId, @PathVariable Long bugId) {
+        return projectService.findProjectBugComments(projectId, bugId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/v1/projects/{projectId}/stats
+     * Retrieve bug counts of the project by status and priority. Requires QA or ADMIN role
+     */
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<ProjectStats> getProjectStats(@PathVariable Long projectId) {
+        return projectService.getProjectStats(projectId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,48 @@
+package com.bugreportplus.backend.controllers;
+
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bugreportplus.backend.dto.SyncResponse;
+import com.bugreportplus.backend.services.SyncService;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // Constructor
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    private static final int MAX_LIMIT = 2000;
+
+    /**
+     * GET /api/v1/sync?since={watermark}&cursor={cursor}&limit={limit}
+     * Retrieve bugs/comments changed since the watermark (ISO-8601 instant) with delete tombstones.
+     * Omit since for an initial full load, which is paged: follow nextCursor until it is null.
+     * Requires QA or ADMIN role
+     */
+    @GetMapping
+    public ResponseEntity<?> sync(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") int limit) {
+        if(limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        try {
+            return ResponseEntity.ok(syncService.changesSince(since, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
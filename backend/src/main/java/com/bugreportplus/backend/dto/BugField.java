@@ -0,0 +1,72 @@
+package com.bugreportplus.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bug attributes selectable through the fields= parameter of the bug list endpoint.
+ * Each one maps to a single column (or joined user column) in the list query.
+ */
+public enum BugField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    COMMENT_COUNT("commentCount"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    LAST_ACTIVITY_AT("lastActivityAt"),
+    REPORTER_ID("reporterId"),
+    REPORTER_NAME("reporterName"),
+    ASSIGNEE_ID("assigneeId"),
+    ASSIGNEE_NAME("assigneeName");
+
+    // Compact list view used when no fields are requested
+    public static final List<BugField> COMPACT = List.of(ID, TITLE, STATUS, PRIORITY, ASSIGNEE_NAME);
+
+    private final String fieldName;
+
+    BugField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses a comma separated list such as "id,title,status"
+     *
+     * @throws IllegalArgumentException for unknown field names
+     */
+    public static List<BugField> parse(String fields) {
+        List<BugField> parsed = new ArrayList<>();
+
+        for(String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if(trimmed.isEmpty()) {
+                continue;
+            }
+
+            BugField field = fromFieldName(trimmed);
+            if(!parsed.contains(field)) {
+                parsed.add(field);
+            }
+        }
+
+        if(parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required.");
+        }
+        return parsed;
+    }
+
+    private static BugField fromFieldName(String fieldName) {
+        for(BugField field : values()) {
+            if(field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + fieldName);
+    }
+}
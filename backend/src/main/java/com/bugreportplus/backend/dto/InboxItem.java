@@ -0,0 +1,22 @@
+package com.bugreportplus.backend.dto;
+
+import java.time.Instant;
+
+import com.bugreportplus.backend.models.Bug;
+
+/**
+ * One row of a user's inbox: a bug they are assigned to or reported,
+ * with its comment activity relative to their last-seen marker
+ */
+public record InboxItem(
+        Long bugId,
+        String title,
+        Bug.Status status,
+        Bug.Priority priority,
+        Boolean assignedToMe,
+        Boolean reportedByMe,
+        Long commentCount,
+        Instant lastCommentAt,
+        Long unreadCount,
+        Instant lastSeenAt) {
+}
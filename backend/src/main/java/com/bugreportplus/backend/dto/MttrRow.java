@@ -0,0 +1,14 @@
+package com.bugreportplus.backend.dto;
+
+import com.bugreportplus.backend.models.Bug;
+
+/**
+ * Mean time to resolution of the bugs of one priority resolved within a range
+ */
+public record MttrRow(Bug.Priority priority, Long resolved, Double meanResolutionSeconds) {
+
+    // Built by the rollup MTTR query from summed counters
+    public MttrRow(Bug.Priority priority, Long resolved, Long resolutionSecondsSum) {
+        this(priority, resolved, resolved > 0 ? (double) resolutionSecondsSum / resolved : null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bugreportplus.backend.dto;
+
+import com.bugreportplus.backend.models.Bug;
+
+/**
+ * Number of a project's bugs with the given status and priority
+ */
+public record ProjectBugCount(Bug.Status status, Bug.Priority priority, Long count) {
+}
@@ -0,0 +1,17 @@
+package com.bugreportplus.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.bugreportplus.backend.models.Bug;
+
+/**
+ * Bug counts of one project, overall and broken down by status and priority
+ */
+public record ProjectStats(
+        Long projectId,
+        long totalBugs,
+        Map<Bug.Status, Long> byStatus,
+        Map<Bug.Priority, Long> byPriority,
+        List<ProjectBugCount> byStatusAndPriority) {
+}
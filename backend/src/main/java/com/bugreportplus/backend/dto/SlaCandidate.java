@@ -0,0 +1,9 @@
+package com.bugreportplus.backend.dto;
+
+import java.time.Instant;
+
+/**
+ * Keyset position of a bug picked up by the SLA escalation scan
+ */
+public record SlaCandidate(Long id, Instant updatedAt) {
+}
@@ -0,0 +1,25 @@
+package com.bugreportplus.backend.dto;
+
+import java.time.Instant;
+
+import com.bugreportplus.backend.models.Bug;
+
+/**
+ * Bug as shipped by delta sync: flat user references instead of nested User entities
+ */
+public record SyncBug(
+        Long id,
+        String title,
+        String description,
+        Bug.Status status,
+        Bug.Priority priority,
+        Long reporterId,
+        String reporterName,
+        Long assigneeId,
+        String assigneeName,
+        Integer commentCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant lastActivityAt,
+        Instant escalatedAt) {
+}
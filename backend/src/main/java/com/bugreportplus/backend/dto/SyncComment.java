@@ -0,0 +1,15 @@
+package com.bugreportplus.backend.dto;
+
+import java.time.Instant;
+
+/**
+ * Comment as shipped by delta sync, carrying its bug id so clients can file it locally
+ */
+public record SyncComment(
+        Long id,
+        Long bugId,
+        String content,
+        Long authorId,
+        String authorName,
+        Instant createdAt) {
+}
@@ -0,0 +1,21 @@
+package com.bugreportplus.backend.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.bugreportplus.backend.models.DeletedRecord;
+
+/**
+ * Changes since the client's watermark. When fullResync is true the lists hold one page of
+ * the whole dataset: the client fetches the remaining pages with nextCursor, then replaces,
+ * not merges, its local state. nextCursor is null on the last page.
+ * Clients upsert by id, since items close to the watermark may be sent twice.
+ */
+public record SyncResponse(
+        List<SyncBug> bugs,
+        List<SyncComment> comments,
+        List<DeletedRecord> deleted,
+        Instant watermark,
+        boolean fullResync,
+        String nextCursor) {
+}
@@ -0,0 +1,18 @@
+package com.bugreportplus.backend.dto;
+
+import java.time.Instant;
+
+/**
+ * Bugs created, resolved and reopened in one hour/day bucket, the status transitions made in it,
+ * and the mean time to resolution in seconds
+ */
+public record TrendPoint(Instant bucketStart, Long created, Long resolved, Long reopened, Long transitions,
+                         Double meanResolutionSeconds) {
+
+    // Built by the rollup trend query from summed counters
+    public TrendPoint(Instant bucketStart, Long created, Long resolved, Long reopened, Long transitions,
+                      Long resolutionSecondsSum) {
+        this(bucketStart, created, resolved, reopened, transitions,
+                resolved > 0 ? (double) resolutionSecondsSum / resolved : null);
+    }
+}
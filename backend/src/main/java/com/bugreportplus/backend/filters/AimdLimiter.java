@@ -0,0 +1,74 @@
+package com.bugreportplus.backend.filters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Additive-increase / multiplicative-decrease concurrency limit.
+ * Each completed request is a latency sample: a fast success while the limit is in use grows
+ * the limit by 1/limit (about +1 per limit's worth of requests), a sample above the latency
+ * target or a server error shrinks it by the backoff ratio (at most once per target interval,
+ * so one burst of slow requests does not collapse the limit to the minimum).
+ */
+final class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private final AtomicLong limitBits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(Long.MIN_VALUE / 2);
+
+    AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyTargetNanos, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+    }
+
+    boolean tryAcquire() {
+        while(true) {
+            int current = inFlight.get();
+            if(current >= getLimit()) {
+                return false;
+            }
+            if(inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long latencyNanos, boolean failed, long nowNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+
+        if(failed || latencyNanos > latencyTargetNanos) {
+            long lastDecrease = lastDecreaseNanos.get();
+            if(nowNanos - lastDecrease >= latencyTargetNanos && lastDecreaseNanos.compareAndSet(lastDecrease, nowNanos)) {
+                updateLimit(limit -> Math.max(minLimit, limit * backoffRatio));
+            }
+        } else if(inFlightBefore * 2 >= getLimit()) {
+            // Only grow while the limit is actually being used, an idle service keeps its limit
+            updateLimit(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+        }
+    }
+
+    int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    double utilization() {
+        return (double) inFlight.get() / Math.max(1, getLimit());
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        limitBits.updateAndGet(bits -> Double.doubleToLongBits(update.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+}
@@ -0,0 +1,106 @@
+package com.bugreportplus.backend.filters;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Adaptive load shedding in front of the controllers. Requests are classified as READ,
+ * WRITE or BULK, and each class has its own AIMD limit driven by observed latency.
+ * Requests over the limit fail fast with 503 instead of queueing in Tomcat, and bulk
+ * requests also yield while reads are near their limit, so cheap reads keep a bounded p99.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum EndpointClass {
+        READ, WRITE, BULK;
+    }
+
+    private final Map<EndpointClass, AimdLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shedCounters = new EnumMap<>(EndpointClass.class);
+    private final List<PathPattern> bulkPatterns;
+    private final double bulkYieldUtilization;
+
+    // Constructor
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        limiters.put(EndpointClass.READ, limiter(properties.getRead()));
+        limiters.put(EndpointClass.WRITE, limiter(properties.getWrite()));
+        limiters.put(EndpointClass.BULK, limiter(properties.getBulk()));
+        this.bulkPatterns = properties.getBulkPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.bulkYieldUtilization = properties.getBulkYieldUtilization();
+
+        limiters.forEach((endpointClass, limiter) -> {
+            String tag = endpointClass.name().toLowerCase();
+            Gauge.builder("bugreport.concurrency_limit.limit", limiter, AimdLimiter::getLimit).tag("class", tag).register(meterRegistry);
+            Gauge.builder("bugreport.concurrency_limit.in_flight", limiter, AimdLimiter::getInFlight).tag("class", tag).register(meterRegistry);
+            shedCounters.put(endpointClass, meterRegistry.counter("bugreport.concurrency_limit.shed", "class", tag));
+        });
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        AimdLimiter limiter = limiters.get(endpointClass);
+
+        boolean yieldToReads = endpointClass == EndpointClass.BULK
+                && limiters.get(EndpointClass.READ).utilization() > bulkYieldUtilization;
+        if(yieldToReads || !limiter.tryAcquire()) {
+            shed(endpointClass, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            long now = System.nanoTime();
+            limiter.release(now - start, failed, now);
+        }
+    }
+
+    EndpointClass classify(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for(PathPattern pattern : bulkPatterns) {
+            if(pattern.matches(path)) {
+                return EndpointClass.BULK;
+            }
+        }
+
+        String method = request.getMethod();
+        return method.equals("GET") || method.equals("HEAD") ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    private void shed(EndpointClass endpointClass, HttpServletResponse response) throws IOException {
+        shedCounters.get(endpointClass).increment();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Server is overloaded, retry shortly.\"}");
+    }
+
+    private static AimdLimiter limiter(ConcurrencyLimitProperties.Limit limit) {
+        return new AimdLimiter(limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+                limit.getLatencyTarget().toNanos(), limit.getBackoffRatio());
+    }
+}
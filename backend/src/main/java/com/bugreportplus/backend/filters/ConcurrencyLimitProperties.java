@@ -0,0 +1,48 @@
+package com.bugreportplus.backend.filters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * bugreport.concurrency-limit.* : adaptive in-flight limits per endpoint class
+ */
+@Data
+@ConfigurationProperties(prefix = "bugreport.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // Bulk/admin requests are shed while read utilization is above this fraction of the read limit
+    private double bulkYieldUtilization = 0.75;
+
+    // Path patterns classified as BULK regardless of method
+    private List<String> bulkPaths = new ArrayList<>(List.of("/api/v1/sync"));
+
+    private Limit read = new Limit(100, 10, 400, Duration.ofMillis(250));
+    private Limit write = new Limit(50, 5, 200, Duration.ofMillis(500));
+    private Limit bulk = new Limit(10, 1, 40, Duration.ofSeconds(2));
+
+    @Data
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private Duration latencyTarget;
+        private double backoffRatio = 0.9;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyTarget = latencyTarget;
+        }
+    }
+}
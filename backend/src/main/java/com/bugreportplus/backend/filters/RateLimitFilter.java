@@ -0,0 +1,125 @@
+package com.bugreportplus.backend.filters;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-user token-bucket rate limiting for the endpoints listed in bugreport.rate-limit.rules.
+ * Runs after Spring Security so the authenticated user and roles are known.
+ * Throttled requests get 429 with Retry-After and are counted in bugreport.rate_limit.throttled.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record CompiledRule(RateLimitProperties.Rule rule, PathPattern pattern) {
+    }
+
+    private final List<CompiledRule> rules;
+    private final long idleNanos;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    // Constructor
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, PathPatternParser.defaultInstance.parse(rule.getPath())))
+                .toList();
+        this.idleNanos = properties.getIdleEviction().toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRule matched = match(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // Unauthenticated requests are rejected by Spring Security, nothing to meter
+        if(matched == null || authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = matched.rule();
+        String role = limitingRole(rule, authentication);
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.computeIfAbsent(rule.getName() + ':' + authentication.getName(), key -> {
+            RateLimitProperties.Limit limit = role == null ? null : rule.getRoles().get(role);
+            return limit == null
+                    ? new TokenBucket(rule.getCapacity(), rule.getRefillPerMinute(), now)
+                    : new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now);
+        });
+
+        long waitNanos = bucket.tryConsume(now);
+        if(waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        meterRegistry.counter("bugreport.rate_limit.throttled", "rule", rule.getName(), "role", role == null ? "default" : role)
+                .increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests.\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    // Drops idle, fully refilled buckets so memory stays bounded by recently active users
+    @Scheduled(fixedDelayString = "${bugreport.rate-limit.sweep-interval-millis:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isEvictable(now, idleNanos));
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        PathContainer path = null;
+        for(CompiledRule compiled : rules) {
+            if(!compiled.rule().getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if(path == null) {
+                path = PathContainer.parsePath(request.getRequestURI());
+            }
+            if(compiled.pattern().matches(path)) {
+                return compiled;
+            }
+        }
+        return null;
+    }
+
+    // First role (in rule order) with an override that the user holds
+    private static String limitingRole(RateLimitProperties.Rule rule, Authentication authentication) {
+        for(Map.Entry<String, RateLimitProperties.Limit> entry : rule.getRoles().entrySet()) {
+            String authority = "ROLE_" + entry.getKey().toUpperCase();
+            for(GrantedAuthority granted : authentication.getAuthorities()) {
+                if(authority.equals(granted.getAuthority())) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.bugreportplus.backend.filters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * bugreport.rate-limit.* : per-endpoint token-bucket limits, applied per authenticated user.
+ * A rule's roles map overrides the default limit for users holding that role.
+ * Capacities and refill rates must be positive: startup fails otherwise, since a bucket
+ * that never refills would throttle its users for good.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "bugreport.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Buckets idle this long (and refilled to capacity) are dropped by the sweeper
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        @NotBlank
+        private String name;
+        @NotBlank
+        private String method;
+        @NotBlank
+        private String path;
+        @Positive
+        private int capacity;
+        @Positive
+        private int refillPerMinute;
+        @Valid
+        private Map<String, Limit> roles = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Limit {
+        @Positive
+        private int capacity;
+        @Positive
+        private int refillPerMinute;
+    }
+}
@@ -0,0 +1,64 @@
+package com.bugreportplus.backend.filters;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The state is one immutable snapshot swapped with CAS,
+ * so a check costs a few arithmetic operations and no locking.
+ */
+final class TokenBucket {
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+    private volatile long lastAccessNanos;
+
+    TokenBucket(int capacity, int refillPerMinute, long nowNanos) {
+        // RateLimitProperties rejects these at startup; a zero rate would mean an endless wait
+        if(capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000.0;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * Takes one token if available
+     *
+     * @return 0 when the request is allowed, otherwise nanoseconds until a token is available
+     */
+    long tryConsume(long nowNanos) {
+        lastAccessNanos = nowNanos;
+
+        while(true) {
+            State current = state.get();
+            long refilledAt = Math.max(current.refilledAtNanos(), nowNanos);
+            double tokens = tokensAt(current, nowNanos);
+
+            if(tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if(state.compareAndSet(current, new State(tokens - 1, refilledAt))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A bucket can be dropped once it is idle and back to full capacity,
+     * re-creating it later grants nothing the client would not already have
+     */
+    boolean isEvictable(long nowNanos, long idleNanos) {
+        return nowNanos - lastAccessNanos > idleNanos && tokensAt(state.get(), nowNanos) >= capacity;
+    }
+
+    private double tokensAt(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.refilledAtNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+}
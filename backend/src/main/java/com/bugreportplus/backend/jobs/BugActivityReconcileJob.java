@@ -0,0 +1,44 @@
+package com.bugreportplus.backend.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bugreportplus.backend.repositories.BugRepository;
+
+/**
+ * Periodically repairs bugs.comment_count / bugs.last_activity_at drift
+ * (e.g. rows touched by manual SQL) by walking the table in id-range chunks
+ */
+@Component
+public class BugActivityReconcileJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BugActivityReconcileJob.class);
+
+    private final BugRepository bugRepository;
+    private final int chunkSize;
+
+    // Constructor
+    public BugActivityReconcileJob(BugRepository bugRepository,
+                                   @Value("${bugreport.jobs.activity-reconcile.chunk-size:1000}") int chunkSize) {
+        this.bugRepository = bugRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${bugreport.jobs.activity-reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        Long maxId = bugRepository.findMaxId();
+        if(maxId == null) {
+            return;
+        }
+
+        int repaired = 0;
+        for(long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += bugRepository.reconcileActivity(fromId, fromId + chunkSize - 1);
+        }
+
+        log.info("Bug activity reconcile finished, {} rows repaired", repaired);
+    }
+}
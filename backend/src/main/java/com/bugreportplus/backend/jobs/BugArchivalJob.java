@@ -0,0 +1,67 @@
+package com.bugreportplus.backend.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bugreportplus.backend.services.ArchiveService;
+
+/**
+ * Moves bugs that have been CLOSED or RESOLVED for longer than the retention period,
+ * and their comments, out of the hot tables in bounded chunks
+ */
+@Component
+public class BugArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BugArchivalJob.class);
+
+    private final ArchiveService archiveService;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseMillis;
+
+    // Constructor
+    public BugArchivalJob(ArchiveService archiveService,
+                          @Value("${bugreport.jobs.archival.retention-days:365}") long retentionDays,
+                          @Value("${bugreport.jobs.archival.chunk-size:500}") int chunkSize,
+                          @Value("${bugreport.jobs.archival.max-chunks-per-run:200}") int maxChunksPerRun,
+                          @Value("${bugreport.jobs.archival.pause-millis:100}") long pauseMillis) {
+        this.archiveService = archiveService;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(cron = "${bugreport.jobs.archival.cron:0 0 2 * * *}")
+    public void archiveClosedBugs() {
+        Instant cutoff = Instant.now().minus(retention);
+        int archived = 0;
+
+        for(int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> candidateIds = archiveService.findArchivableBugIds(cutoff, chunkSize);
+            if(candidateIds.isEmpty()) {
+                break;
+            }
+
+            archived += archiveService.archiveChunk(candidateIds);
+
+            // Give concurrent writers room between chunks
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.info("Bug archival finished, {} bugs moved to archive (cutoff {})", archived, cutoff);
+    }
+}
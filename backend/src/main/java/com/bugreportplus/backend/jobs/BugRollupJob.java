@@ -0,0 +1,99 @@
+package com.bugreportplus.backend.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bugreportplus.backend.services.JobLockService;
+import com.bugreportplus.backend.services.RollupService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the hourly/daily analytics rollups current by folding in new bug_events only,
+ * then advances a requested rebuild. Only the node holding the bug-rollups lease runs it.
+ */
+@Component
+public class BugRollupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BugRollupJob.class);
+
+    private final RollupService rollupService;
+    private final JobLockService jobLockService;
+    private final BugRollupProperties properties;
+    private final Counter eventsCounter;
+
+    // Constructor
+    public BugRollupJob(RollupService rollupService, JobLockService jobLockService, BugRollupProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.rollupService = rollupService;
+        this.jobLockService = jobLockService;
+        this.properties = properties;
+        this.eventsCounter = meterRegistry.counter("bugreport.jobs.bug_rollups.events");
+    }
+
+    @Scheduled(cron = "${bugreport.jobs.bug-rollups.cron:30 * * * * *}")
+    public void refreshRollups() {
+        if(!jobLockService.tryAcquire(RollupService.JOB_NAME, properties.getLease())) {
+            return;
+        }
+        int chunkSize = properties.getChunkSize();
+        int maxChunksPerRun = properties.getMaxChunksPerRun();
+
+        try {
+            int purged = rollupService.purgeRetiredGenerations();
+            if(purged > 0) {
+                log.info("Purged {} rollup rows of retired generations", purged);
+            }
+            if(rollupService.startRequestedRebuild()) {
+                log.info("Rollup rebuild started, recomputing from all bug events alongside the served rollups");
+            }
+
+            int total = 0;
+            int chunks = 0;
+            int processed;
+            boolean leaseHeld = true;
+            do {
+                processed = rollupService.processChunk(chunkSize, properties.getLag());
+                total += processed;
+                chunks++;
+
+                // Extend the lease after each chunk; if it was lost, another node owns the job now
+                if(!jobLockService.tryAcquire(RollupService.JOB_NAME, properties.getLease())) {
+                    log.warn("Rollup lease lost after {} chunks, stopping; the checkpoint resumes the refresh", chunks);
+                    leaseHeld = false;
+                }
+            } while(leaseHeld && processed == chunkSize && chunks < maxChunksPerRun);
+
+            eventsCounter.increment(total);
+            if(total > 0) {
+                log.info("Rollup refresh finished, {} bug events applied in {} chunks", total, chunks);
+            }
+            if(!leaseHeld) {
+                return;
+            }
+
+            // A rebuild resumes from its checkpoint each run and is served once it catches up
+            int rebuilt = 0;
+            int rebuildChunks = 0;
+            do {
+                // Extend the lease before each further chunk; if it was lost, another node owns the job now
+                if(!jobLockService.tryAcquire(RollupService.JOB_NAME, properties.getLease())) {
+                    log.warn("Rollup lease lost after {} rebuild chunks, stopping; the checkpoint resumes the rebuild", rebuildChunks);
+                    return;
+                }
+                processed = rollupService.rebuildChunk(chunkSize);
+                rebuilt += processed;
+                rebuildChunks++;
+            } while(processed == chunkSize && rebuildChunks < maxChunksPerRun);
+
+            if(rebuilt > 0) {
+                log.info("Rollup rebuild applied {} bug events in {} chunks", rebuilt, rebuildChunks);
+            }
+        } finally {
+            jobLockService.release(RollupService.JOB_NAME);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bugreportplus.backend.jobs;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * bugreport.jobs.bug-rollups.* : chunking of the rollup refresh and how long new events wait before being folded in
+ */
+@Data
+@ConfigurationProperties(prefix = "bugreport.jobs.bug-rollups")
+public class BugRollupProperties {
+
+    private int chunkSize = 1000;
+    private int maxChunksPerRun = 500;
+    private Duration lag = Duration.ofSeconds(60);
+    private Duration lease = Duration.ofMinutes(10);
+}
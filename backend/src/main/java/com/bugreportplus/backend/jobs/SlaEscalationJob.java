@@ -0,0 +1,91 @@
+package com.bugreportplus.backend.jobs;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.services.JobLockService;
+import com.bugreportplus.backend.services.SlaEscalationService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Escalates OPEN bugs that stayed untouched longer than their priority's SLA to the next
+ * priority, and flags stale CRITICAL bugs. Only the node holding the sla-escalation lease runs it.
+ */
+@Component
+public class SlaEscalationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaEscalationJob.class);
+    private static final String LOCK_NAME = "sla-escalation";
+
+    private final SlaEscalationService slaEscalationService;
+    private final JobLockService jobLockService;
+    private final SlaEscalationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary rowsPerRun;
+    private final Timer runTimer;
+
+    // Constructor
+    public SlaEscalationJob(SlaEscalationService slaEscalationService, JobLockService jobLockService,
+                            SlaEscalationProperties properties, MeterRegistry meterRegistry) {
+        this.slaEscalationService = slaEscalationService;
+        this.jobLockService = jobLockService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rowsPerRun = meterRegistry.summary("bugreport.jobs.sla_escalation.rows_per_run");
+        this.runTimer = meterRegistry.timer("bugreport.jobs.sla_escalation.duration");
+    }
+
+    @Scheduled(cron = "${bugreport.jobs.sla-escalation.cron:0 */15 * * * *}")
+    public void escalateStaleBugs() {
+        if(!properties.isEnabled() || !jobLockService.tryAcquire(LOCK_NAME, properties.getLease())) {
+            return;
+        }
+
+        try {
+            runTimer.record(this::runOnce);
+        } finally {
+            jobLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void runOnce() {
+        int total = 0;
+        int chunks = 0;
+        Instant now = Instant.now();
+
+        // Highest priority first, so a bug escalated in this run is not escalated twice
+        Bug.Priority[] priorities = Bug.Priority.values();
+        for(int i = priorities.length - 1; i >= 0 && chunks < properties.getMaxChunksPerRun(); i--) {
+            Bug.Priority priority = priorities[i];
+            Instant cutoff = now.minus(properties.getSla().get(priority));
+            String action = priority == Bug.Priority.CRITICAL ? "flagged" : "escalated";
+            SlaEscalationService.ChunkResult result;
+
+            do {
+                result = slaEscalationService.escalateChunk(priority, cutoff, properties.getChunkSize());
+                chunks++;
+                total += result.rowsProcessed();
+                meterRegistry.counter("bugreport.jobs.sla_escalation.rows", "priority", priority.name(), "action", action)
+                        .increment(result.rowsProcessed());
+
+                // Extend the lease before each further chunk; if it was lost, another node owns the job now
+                if(!jobLockService.tryAcquire(LOCK_NAME, properties.getLease())) {
+                    log.warn("SLA escalation lease lost after {} chunks, stopping; the checkpoint resumes the pass", chunks);
+                    rowsPerRun.record(total);
+                    return;
+                }
+            } while(result.hasMore() && chunks < properties.getMaxChunksPerRun());
+        }
+
+        rowsPerRun.record(total);
+        log.info("SLA escalation finished, {} bugs escalated or flagged in {} chunks", total, chunks);
+    }
+}
@@ -0,0 +1,30 @@
+package com.bugreportplus.backend.jobs;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.bugreportplus.backend.models.Bug;
+
+import lombok.Data;
+
+/**
+ * bugreport.jobs.sla-escalation.* : how long an OPEN bug of each priority may stay untouched
+ */
+@Data
+@ConfigurationProperties(prefix = "bugreport.jobs.sla-escalation")
+public class SlaEscalationProperties {
+
+    private boolean enabled = true;
+    private int chunkSize = 500;
+    private int maxChunksPerRun = 100;
+    private Duration lease = Duration.ofMinutes(10);
+
+    private Map<Bug.Priority, Duration> sla = new EnumMap<>(Map.of(
+            Bug.Priority.LOW, Duration.ofDays(14),
+            Bug.Priority.MEDIUM, Duration.ofDays(7),
+            Bug.Priority.HIGH, Duration.ofDays(2),
+            Bug.Priority.CRITICAL, Duration.ofHours(8)));
+}
@@ -0,0 +1,49 @@
+package com.bugreportplus.backend.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bugreportplus.backend.repositories.DeletedRecordRepository;
+
+/**
+ * Drops delete tombstones older than the sync retention. Clients with an older
+ * watermark get a full resync, so expired tombstones are never needed again.
+ */
+@Component
+public class TombstonePurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TombstonePurgeJob.class);
+
+    private final DeletedRecordRepository deletedRecordRepository;
+    private final Duration retention;
+    private final int chunkSize;
+
+    // Constructor
+    public TombstonePurgeJob(DeletedRecordRepository deletedRecordRepository,
+                             @Value("${bugreport.sync.tombstone-retention-days:30}") long retentionDays,
+                             @Value("${bugreport.jobs.tombstone-purge.chunk-size:5000}") int chunkSize) {
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${bugreport.jobs.tombstone-purge.cron:0 15 2 * * *}")
+    public void purgeExpiredTombstones() {
+        Instant cutoff = Instant.now().minus(retention);
+        int purged = 0;
+        int deleted;
+
+        do {
+            deleted = deletedRecordRepository.purgeChunk(cutoff, chunkSize);
+            purged += deleted;
+        } while(deleted == chunkSize);
+
+        log.info("Tombstone purge finished, {} rows deleted", purged);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bugreportplus.backend.jobs;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bugreportplus.backend.repositories.OutboxEventRepository;
+import com.bugreportplus.backend.services.JobLockService;
+import com.bugreportplus.backend.services.WebhookDispatchService;
+import com.bugreportplus.backend.webhooks.WebhookProperties;
+
+/**
+ * Polls the outbox and delivers webhooks in batches, and purges processed outbox rows.
+ * Only the node holding the webhook-dispatch lease delivers, so each row is sent by one node;
+ * the purge runs on the node holding the outbox-purge lease.
+ */
+@Component
+public class WebhookDispatchJob {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatchJob.class);
+    private static final String LOCK_NAME = "webhook-dispatch";
+    private static final String PURGE_LOCK_NAME = "outbox-purge";
+
+    private final WebhookDispatchService webhookDispatchService;
+    private final OutboxEventRepository outboxEventRepository;
+    private final JobLockService jobLockService;
+    private final WebhookProperties properties;
+
+    // Constructor
+    public WebhookDispatchJob(WebhookDispatchService webhookDispatchService, OutboxEventRepository outboxEventRepository,
+                              JobLockService jobLockService, WebhookProperties properties) {
+        this.webhookDispatchService = webhookDispatchService;
+        this.outboxEventRepository = outboxEventRepository;
+        this.jobLockService = jobLockService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${bugreport.jobs.webhook-dispatch.interval-ms:5000}")
+    public void dispatchPendingEvents() {
+        if(!properties.isEnabled() || !jobLockService.tryAcquire(LOCK_NAME, properties.getLease())) {
+            return;
+        }
+
+        // Keep draining full batches, but start no delivery after half the lease. In-flight requests
+        // finish within the request timeout, and the lease is extended after every batch.
+        Instant deadline = Instant.now().plus(properties.getLease().dividedBy(2));
+        try {
+            int taken;
+            do {
+                taken = webhookDispatchService.dispatchBatch(deadline);
+                if(!jobLockService.tryAcquire(LOCK_NAME, properties.getLease())) {
+                    log.warn("Webhook dispatch lease lost, stopping until the next poll");
+                    return;
+                }
+            } while(taken == properties.getBatchSize() && Instant.now().isBefore(deadline));
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            jobLockService.release(LOCK_NAME);
+        }
+    }
+
+    @Scheduled(cron = "${bugreport.jobs.outbox-purge.cron:0 30 2 * * *}")
+    public void purgeProcessedEvents() {
+        if(!jobLockService.tryAcquire(PURGE_LOCK_NAME, properties.getLease())) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        int chunkSize = properties.getPurgeChunkSize();
+        int purged = 0;
+        int deleted;
+        try {
+            do {
+                deleted = outboxEventRepository.purgeChunk(cutoff, chunkSize);
+                purged += deleted;
+                if(!jobLockService.tryAcquire(PURGE_LOCK_NAME, properties.getLease())) {
+                    log.warn("Outbox purge lease lost after {} rows, stopping; the next run continues", purged);
+                    return;
+                }
+            } while(deleted == chunkSize);
+
+            log.info("Outbox purge finished, {} rows deleted", purged);
+        } finally {
+            jobLockService.release(PURGE_LOCK_NAME);
+        }
+    }
+}
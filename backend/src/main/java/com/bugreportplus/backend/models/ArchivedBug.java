@@ -0,0 +1,78 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only view of a bug moved to cold storage by the archival job
+ */
+@Entity
+@Immutable
+@Table(name = "bugs_archive")
+@Data
+@NoArgsConstructor
+public class ArchivedBug {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Bug.Status status;
+
+    @Enumerated(EnumType.STRING)
+    private Bug.Priority priority;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reporter_id")
+    private User reporter;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_user_id")
+    private User assignedUser;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "comment_count")
+    private Integer commentCount;
+
+    @Column(name = "last_activity_at")
+    private Instant lastActivityAt;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
+    // Detached Bug copy so archived rows can be served through the regular read paths
+    public Bug toBug() {
+        Bug bug = new Bug();
+        bug.setId(id);
+        bug.setProjectId(projectId);
+        bug.setTitle(title);
+        bug.setDescription(description);
+        bug.setStatus(status);
+        bug.setPriority(priority);
+        bug.setReporter(reporter);
+        bug.setAssignedUser(assignedUser);
+        bug.setCreatedAt(createdAt);
+        bug.setUpdatedAt(updatedAt);
+        bug.setCommentCount(commentCount);
+        bug.setLastActivityAt(lastActivityAt);
+        return bug;
+    }
+}
@@ -0,0 +1,48 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only view of a comment moved to cold storage together with its bug
+ */
+@Entity
+@Immutable
+@Table(name = "comments_archive")
+@Data
+@NoArgsConstructor
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "bug_id")
+    private Long bugId;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "user_id")
+    private User author;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    // Detached Comment copy so archived rows can be served through the regular read paths
+    public Comment toComment() {
+        Comment comment = new Comment(content, null, author);
+        comment.setId(id);
+        comment.setProjectId(projectId);
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+}
@@ -7,12 +7,19 @@ import jakarta.persistence.Table;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.PartitionKey;
+
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "bugs")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bugs")
+@DynamicUpdate // Only write changed columns so entity saves never overwrite comment_count
 @Data
 @NoArgsConstructor
 public class Bug {
@@ -21,6 +28,11 @@ public class Bug {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Partition key: Hibernate adds it to entity UPDATE/DELETE so Postgres prunes to one partition
+    @PartitionKey
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Long projectId = Project.DEFAULT_PROJECT_ID;
+
     @Column(nullable = false)
     private String title;
 
@@ -46,8 +58,19 @@ public class Bug {
     @Column(name = "created_at", updatable = false)
     private Instant createdAt = Instant.now();
 
-    @Column(name = "updated_at")
-    private Instant updatedAt;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    // Maintained by CommentService under a row lock, never set from request bodies
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+
+    @Column(name = "last_activity_at")
+    private Instant lastActivityAt = Instant.now();
+
+    // Set by the SLA escalation job when the bug was escalated or flagged
+    @Column(name = "escalated_at")
+    private Instant escalatedAt;
 
     public enum Status {
         OPEN, IN_PROGRESS, RESOLVED, CLOSED;
@@ -55,11 +78,17 @@ public class Bug {
 
     public enum Priority {
         LOW, MEDIUM, HIGH, CRITICAL;
+
+        // Next level up, CRITICAL stays CRITICAL
+        public Priority escalated() {
+            return this == CRITICAL ? CRITICAL : values()[ordinal() + 1];
+        }
     }
 
-    // Set updatedAt automatically on update
+    // Set updatedAt and lastActivityAt automatically on update
     @PreUpdate
     protected void onUpdate() {
         updatedAt = Instant.now();
+        lastActivityAt = updatedAt;
     }
 }
@@ -0,0 +1,65 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lifecycle change of a bug, appended by BugService and folded into bug_rollups by the rollup job
+ */
+@Entity
+@Table(name = "bug_events")
+@Data
+@NoArgsConstructor
+public class BugEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bug_id", nullable = false)
+    private Long bugId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private EventType eventType;
+
+    // Status and priority of the bug right after the change
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Bug.Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Bug.Priority priority;
+
+    @Column(name = "assigned_user_id")
+    private Long assignedUserId;
+
+    // Set on RESOLVED events: seconds from bug creation, or from its latest reopen, to resolution
+    @Column(name = "resolution_seconds")
+    private Long resolutionSeconds;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public enum EventType {
+        // REOPENED: moved from RESOLVED/CLOSED back to an open status
+        CREATED, STATUS_CHANGED, RESOLVED, REOPENED;
+    }
+
+    public BugEvent(EventType eventType, Bug bug, Instant occurredAt) {
+        this.eventType = eventType;
+        this.bugId = bug.getId();
+        this.projectId = bug.getProjectId();
+        this.status = bug.getStatus();
+        this.priority = bug.getPriority();
+        this.assignedUserId = bug.getAssignedUser() != null ? bug.getAssignedUser().getId() : null;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user "last seen" marker for a bug, used to compute unread comment counts
+ */
+@Entity
+@Table(name = "bug_reads", uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "bug_id"}))
+@Data
+@NoArgsConstructor
+public class BugRead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bug_id", nullable = false)
+    private Bug bug;
+
+    // Copied from the bug, bug_reads reference bugs through (project_id, bug_id)
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Long projectId = Project.DEFAULT_PROJECT_ID;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private Instant lastSeenAt;
+
+    public BugRead(User user, Bug bug, Instant lastSeenAt) {
+        this.user = user;
+        this.bug = bug;
+        this.lastSeenAt = lastSeenAt;
+        if(bug != null && bug.getProjectId() != null) {
+            this.projectId = bug.getProjectId();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bug counters for one hour or day bucket and one project/status/priority/assignee combination.
+ * Created bugs count under OPEN; transitions, reopens and resolutions under the status moved to
+ */
+@Entity
+@Table(name = "bug_rollups")
+@Data
+@NoArgsConstructor
+public class BugRollup {
+
+    // Assignee id stored for unassigned bugs
+    public static final Long UNASSIGNED = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Rollup generation; reports read the one RollupService serves, rebuilds fill the next
+    @Column(nullable = false)
+    private Long generation = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Bug.Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Bug.Priority priority;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Column(name = "created_count", nullable = false)
+    private Long createdCount = 0L;
+
+    @Column(name = "resolved_count", nullable = false)
+    private Long resolvedCount = 0L;
+
+    @Column(name = "reopened_count", nullable = false)
+    private Long reopenedCount = 0L;
+
+    @Column(name = "transition_count", nullable = false)
+    private Long transitionCount = 0L;
+
+    @Column(name = "resolution_seconds_sum", nullable = false)
+    private Long resolutionSecondsSum = 0L;
+
+    public enum Granularity {
+        HOUR, DAY;
+    }
+}
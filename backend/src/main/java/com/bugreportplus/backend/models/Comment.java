@@ -2,6 +2,8 @@ package com.bugreportplus.backend.models;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.PartitionKey;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
@@ -22,6 +24,11 @@ public class Comment {
     @Column(nullable = false, length = 1000)
     private String content;
 
+    // Copied from the bug, comments live in the same project partition as their bug
+    @PartitionKey
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private Long projectId = Project.DEFAULT_PROJECT_ID;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bug_id", nullable = false)
     @JsonIgnore
@@ -39,5 +46,8 @@ public class Comment {
         this.content = content;
         this.bug = bug;
         this.author = author;
+        if(bug != null && bug.getProjectId() != null) {
+            this.projectId = bug.getProjectId();
+        }
     }
 }
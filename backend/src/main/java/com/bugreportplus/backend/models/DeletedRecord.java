@@ -0,0 +1,45 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tombstone written when a bug or comment is hard-deleted, consumed by delta sync
+ */
+@Entity
+@Table(name = "deleted_records")
+@Data
+@NoArgsConstructor
+public class DeletedRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "bug_id")
+    private Long bugId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public enum EntityType {
+        BUG, COMMENT;
+    }
+
+    public DeletedRecord(EntityType entityType, Long entityId, Long bugId, Instant deletedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.bugId = bugId;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resume position of a chunked background job, saved in the same transaction as each chunk
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+@NoArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "checkpoint_value", nullable = false)
+    private String checkpointValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public JobCheckpoint(String jobName, String checkpointValue, Instant updatedAt) {
+        this.jobName = jobName;
+        this.checkpointValue = checkpointValue;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time-bounded lease on a background job, held by at most one node
+ */
+@Entity
+@Table(name = "job_locks")
+@Data
+@NoArgsConstructor
+public class JobLock {
+
+    @Id
+    @Column(name = "lock_name")
+    private String lockName;
+
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+}
@@ -0,0 +1,70 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pending webhook delivery of one domain event to one configured endpoint
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "endpoint_name", nullable = false)
+    private String endpointName;
+
+    @Column(name = "bug_id")
+    private Long bugId;
+
+    // Pending events sharing a key are collapsed to the newest one on dispatch
+    @Column(name = "coalesce_key")
+    private String coalesceKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    public enum Status {
+        PENDING, SENT, SUPERSEDED, FAILED;
+    }
+
+    public OutboxEvent(String eventType, String endpointName, Long bugId, String coalesceKey, String payload, Instant createdAt) {
+        this.eventType = eventType;
+        this.endpointName = endpointName;
+        this.bugId = bugId;
+        this.coalesceKey = coalesceKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bugreportplus.backend.models;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Team workspace grouping bugs. bugs and comments are partitioned by project id on Postgres.
+ */
+@Entity
+@Table(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@Data
+@NoArgsConstructor
+public class Project {
+
+    // Created by V8, owns every bug that existed before projects
+    public static final Long DEFAULT_PROJECT_ID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_key", nullable = false, unique = true, length = 20)
+    private String projectKey;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt = Instant.now();
+}
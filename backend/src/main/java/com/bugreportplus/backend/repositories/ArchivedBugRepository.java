@@ -0,0 +1,76 @@
+package com.bugreportplus.backend.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.models.ArchivedBug;
+
+/**
+ * Archived bug lookups plus the set-based statements used to move bugs
+ * and their comments from the hot tables into the archive tables.
+ * Archival runs across all projects: chunks are picked by id, and each statement probes
+ * every partition's id or bug_id index for at most one chunk of ids.
+ */
+@Repository
+public interface ArchivedBugRepository extends JpaRepository<ArchivedBug, Long>{
+
+    // Bugs with attachments are skipped, attachments are not archived and would be cascaded away
+    @Query(value = """
+            SELECT b.id FROM bugs b
+            WHERE b.status IN ('CLOSED', 'RESOLVED')
+              AND (b.updated_at < :cutoff OR (b.updated_at IS NULL AND b.created_at < :cutoff))
+              AND NOT EXISTS (SELECT 1 FROM attachments a WHERE a.bug_id = b.id)
+            ORDER BY b.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findArchivableBugIds(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    // Row-locks the chunk and re-checks it, so a bug reopened or given an attachment meanwhile stays hot
+    @Query(value = """
+            SELECT b.id FROM bugs b
+            WHERE b.id IN (:bugIds) AND b.status IN ('CLOSED', 'RESOLVED')
+              AND NOT EXISTS (SELECT 1 FROM attachments a WHERE a.bug_id = b.id)
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockArchivableBugs(@Param("bugIds") List<Long> bugIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO comments_archive (id, project_id, bug_id, user_id, content, created_at)
+            SELECT c.id, c.project_id, c.bug_id, c.user_id, c.content, c.created_at
+            FROM comments c WHERE c.bug_id IN (:bugIds)
+            """, nativeQuery = true)
+    int copyCommentsToArchive(@Param("bugIds") List<Long> bugIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO bugs_archive (id, project_id, title, description, status, priority, reporter_id, assigned_user_id,
+                                      created_at, updated_at, comment_count, last_activity_at, archived_at)
+            SELECT b.id, b.project_id, b.title, b.description, b.status, b.priority, b.reporter_id, b.assigned_user_id,
+                   b.created_at, b.updated_at, b.comment_count, b.last_activity_at, :archivedAt
+            FROM bugs b WHERE b.id IN (:bugIds)
+            """, nativeQuery = true)
+    int copyBugsToArchive(@Param("bugIds") List<Long> bugIds, @Param("archivedAt") Instant archivedAt);
+
+    // Delete tombstones so delta-sync clients drop archived bugs (and their comments) locally
+    @Modifying
+    @Query(value = """
+            INSERT INTO deleted_records (entity_type, entity_id, bug_id, deleted_at)
+            SELECT 'BUG', b.id, b.id, :archivedAt FROM bugs b WHERE b.id IN (:bugIds)
+            """, nativeQuery = true)
+    int writeTombstones(@Param("bugIds") List<Long> bugIds, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE bug_id IN (:bugIds)", nativeQuery = true)
+    int deleteHotComments(@Param("bugIds") List<Long> bugIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM bugs WHERE id IN (:bugIds)", nativeQuery = true)
+    int deleteHotBugs(@Param("bugIds") List<Long> bugIds);
+}
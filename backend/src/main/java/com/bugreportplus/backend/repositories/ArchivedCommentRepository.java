@@ -0,0 +1,36 @@
+package com.bugreportplus.backend.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.models.ArchivedComment;
+
+@Repository
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long>{
+
+    // The archive tables are not partitioned, served by idx_comments_archive_bug_id_created_at
+    List<ArchivedComment> findByBugIdOrderByCreatedAtAsc(Long bugId);
+
+    // Archive counterpart of CommentRepository.findLatestIdsByBugIds, served by the same (bug_id, created_at) index
+    @Query(value = """
+            SELECT id FROM (
+                SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.bug_id ORDER BY c.created_at DESC, c.id DESC) AS rn
+                FROM comments_archive c
+                WHERE c.bug_id IN (:bugIds)) ranked
+            WHERE rn <= :perBug
+            """, nativeQuery = true)
+    List<Long> findLatestIdsByBugIds(@Param("bugIds") Collection<Long> bugIds, @Param("perBug") int perBug);
+
+    @Query("""
+            SELECT c FROM ArchivedComment c
+            JOIN FETCH c.author
+            WHERE c.id IN :ids
+            ORDER BY c.bugId, c.createdAt DESC, c.id DESC
+            """)
+    List<ArchivedComment> findWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,19 @@
+package com.bugreportplus.backend.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.models.BugEvent;
+
+@Repository
+public interface BugEventRepository extends JpaRepository<BugEvent, Long>{
+
+    List<BugEvent> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // Latest event of one type for a bug, served by idx_bug_events_bug_type
+    Optional<BugEvent> findFirstByBugIdAndEventTypeOrderByIdDesc(Long bugId, BugEvent.EventType eventType);
+}
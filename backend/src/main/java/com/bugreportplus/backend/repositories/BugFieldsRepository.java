@@ -0,0 +1,14 @@
+package com.bugreportplus.backend.repositories;
+
+import java.util.List;
+import java.util.Map;
+
+import com.bugreportplus.backend.dto.BugField;
+
+/**
+ * Column-limited bug list queries, implemented with the Criteria API in BugFieldsRepositoryImpl
+ */
+public interface BugFieldsRepository {
+
+    List<Map<String, Object>> findAllWithFields(List<BugField> fields, Long projectId);
+}
@@ -0,0 +1,78 @@
+package com.bugreportplus.backend.repositories;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bugreportplus.backend.dto.BugField;
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+
+public class BugFieldsRepositoryImpl implements BugFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Selects only the requested columns, so the SQL never reads description or user
+     * columns that were not asked for. The users table is joined only for name/id fields.
+     * A non-null projectId restricts the list to that project, pruned to its partition on Postgres.
+     */
+    @Override
+    public List<Map<String, Object>> findAllWithFields(List<BugField> fields, Long projectId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Bug> bug = query.from(Bug.class);
+
+        Join<Bug, User> reporter = null;
+        Join<Bug, User> assignee = null;
+        List<Selection<?>> selections = new ArrayList<>();
+
+        for(BugField field : fields) {
+            if((field == BugField.REPORTER_ID || field == BugField.REPORTER_NAME) && reporter == null) {
+                reporter = bug.join("reporter", JoinType.LEFT);
+            }
+            if((field == BugField.ASSIGNEE_ID || field == BugField.ASSIGNEE_NAME) && assignee == null) {
+                assignee = bug.join("assignedUser", JoinType.LEFT);
+            }
+
+            Path<?> path = switch(field) {
+                case ID -> bug.get("id");
+                case TITLE -> bug.get("title");
+                case DESCRIPTION -> bug.get("description");
+                case STATUS -> bug.get("status");
+                case PRIORITY -> bug.get("priority");
+                case COMMENT_COUNT -> bug.get("commentCount");
+                case CREATED_AT -> bug.get("createdAt");
+                case UPDATED_AT -> bug.get("updatedAt");
+                case LAST_ACTIVITY_AT -> bug.get("lastActivityAt");
+                case REPORTER_ID -> reporter.get("id");
+                case REPORTER_NAME -> reporter.get("fullName");
+                case ASSIGNEE_ID -> assignee.get("id");
+                case ASSIGNEE_NAME -> assignee.get("fullName");
+            };
+            selections.add(path.alias(field.getFieldName()));
+        }
+
+        query.multiselect(selections).orderBy(cb.desc(bug.get("id")));
+        if(projectId != null) {
+            query.where(cb.equal(bug.get("projectId"), projectId));
+        }
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for(BugField field : fields) {
+                        row.put(field.getFieldName(), tuple.get(field.getFieldName()));
+                    }
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.bugreportplus.backend.repositories;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.models.BugRead;
+
+@Repository
+public interface BugReadRepository extends JpaRepository<BugRead, Long>{
+
+    Optional<BugRead> findByUserIdAndBugId(Long userId, Long bugId);
+}
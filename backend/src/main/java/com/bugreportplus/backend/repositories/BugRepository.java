@@ -1,20 +1,219 @@
 package com.bugreportplus.backend.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.bugreportplus.backend.dto.InboxItem;
+import com.bugreportplus.backend.dto.ProjectBugCount;
+import com.bugreportplus.backend.dto.SlaCandidate;
+import com.bugreportplus.backend.dto.SyncBug;
 import com.bugreportplus.backend.models.Bug;
 import com.bugreportplus.backend.models.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface BugRepository extends JpaRepository<Bug, Long>{
+public interface BugRepository extends JpaRepository<Bug, Long>, BugFieldsRepository{
 
+    // Cross-project by design (a user's or a status's bugs in every project). On Postgres they
+    // probe each partition's reporter/assignee/status index; project views use the finders below.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Bug> findByReporter(User reporter);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Bug> findByAssignedUser(User assignedUser);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Bug> findByStatusOrderByCreatedAtDesc(Bug.Status status);
+
+    // Not query-cached: comment posts reorder these without bumping the bugs query space (see adjustCommentCount).
+    // Global feeds across projects: Postgres merges the per-partition index scans, stopping at the page size.
+    List<Bug> findAllByOrderByLastActivityAtDescIdDesc(Pageable pageable);
+
+    List<Bug> findAllByOrderByCommentCountDescIdDesc(Pageable pageable);
+
+    // Project-scoped finders: the project_id predicate lets Postgres prune to a single partition
+    List<Bug> findByProjectIdOrderByLastActivityAtDescIdDesc(Long projectId, Pageable pageable);
+
+    Optional<Bug> findByProjectIdAndId(Long projectId, Long id);
+
+    List<Bug> findByProjectId(Long projectId);
+
+    // Cached per project id in the project-stats query region, invalidated by any write to bugs
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "project-stats")})
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.ProjectBugCount(b.status, b.priority, COUNT(b))
+            FROM Bug b
+            WHERE b.projectId = :projectId
+            GROUP BY b.status, b.priority
+            """)
+    List<ProjectBugCount> countByProjectGroupByStatusAndPriority(@Param("projectId") Long projectId);
+
+    // Every bug write and comment post moves last_activity_at, so this is the bug change feed.
+    // Sync clients mirror all projects, so the feed and the resync pages below are unscoped.
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.SyncBug(
+                b.id, b.title, b.description, b.status, b.priority,
+                rep.id, rep.fullName, a.id, a.fullName,
+                b.commentCount, b.createdAt, b.updatedAt, b.lastActivityAt, b.escalatedAt)
+            FROM Bug b
+            LEFT JOIN b.reporter rep
+            LEFT JOIN b.assignedUser a
+            WHERE b.lastActivityAt > :since
+            ORDER BY b.lastActivityAt
+            """)
+    List<SyncBug> findSyncBugsChangedAfter(@Param("since") Instant since);
+
+    // Full-resync page in primary-key order, so paging is stable while bugs keep changing
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.SyncBug(
+                b.id, b.title, b.description, b.status, b.priority,
+                rep.id, rep.fullName, a.id, a.fullName,
+                b.commentCount, b.createdAt, b.updatedAt, b.lastActivityAt, b.escalatedAt)
+            FROM Bug b
+            LEFT JOIN b.reporter rep
+            LEFT JOIN b.assignedUser a
+            WHERE b.id > :afterId
+            ORDER BY b.id
+            """)
+    List<SyncBug> findSyncBugsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT MAX(b.id) FROM Bug b")
+    Long findMaxId();
+
+    // Which of the given ids are hot bugs; unscoped like the batch comments endpoint that asks
+    @Query("SELECT b.id FROM Bug b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Version of the cached bug detail and comment responses. A plain query, never the node-local
+    // second-level cache, so a write committed on another node is seen on the next read.
+    @Query("SELECT b.lastActivityAt FROM Bug b WHERE b.id = :id")
+    Optional<Instant> findLastActivityAtById(@Param("id") Long id);
+
+    /**
+     * Atomic comment_count / last_activity_at maintenance for comment posts and deletes.
+     * Native with the comments query space only, so Hibernate does not evict the whole bugs
+     * cache region and the bugs query cache on every comment; callers evict the one bug entry.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = """
+            UPDATE bugs
+            SET comment_count = CASE WHEN comment_count + :delta < 0 THEN 0 ELSE comment_count + :delta END,
+                last_activity_at = :activityAt
+            WHERE project_id = :projectId AND id = :bugId
+            """, nativeQuery = true)
+    int adjustCommentCount(@Param("projectId") Long projectId, @Param("bugId") Long bugId,
+                           @Param("delta") int delta, @Param("activityAt") Instant activityAt);
+
+    /**
+     * Recomputes comment_count for bugs in the id range whose stored count drifted, and moves
+     * last_activity_at forward when it is missing or behind the latest update or comment.
+     * Values ahead of both (e.g. bumped by a comment delete) are kept. Runs in its own short
+     * transaction per chunk. The comments subqueries carry the bug's project_id so Postgres probes
+     * one comments partition instead of all of them.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE bugs
+            SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.bug_id = bugs.id AND c.project_id = bugs.project_id),
+                last_activity_at = GREATEST(
+                    COALESCE(last_activity_at, updated_at),
+                    updated_at,
+                    COALESCE((SELECT MAX(c.created_at) FROM comments c WHERE c.bug_id = bugs.id AND c.project_id = bugs.project_id), updated_at))
+            WHERE id BETWEEN :fromId AND :toId
+              AND (last_activity_at IS NULL
+                   OR last_activity_at < updated_at
+                   OR last_activity_at < (SELECT MAX(c.created_at) FROM comments c WHERE c.bug_id = bugs.id AND c.project_id = bugs.project_id)
+                   OR comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.bug_id = bugs.id AND c.project_id = bugs.project_id))
+            """, nativeQuery = true)
+    int reconcileActivity(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Next chunk of bugs in the status/priority untouched since the cutoff, in (updated_at, id)
+     * keyset order after the given position. Backed by idx_bugs_status_priority_updated_at.
+     * With unflaggedOnly, bugs already flagged since their last update are skipped: flagging leaves
+     * updated_at alone, so escalated_at > updated_at marks a flagged bug, while escalation to CRITICAL
+     * sets both to the same instant and must still be flagged once the bug goes stale again.
+     */
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.SlaCandidate(b.id, b.updatedAt)
+            FROM Bug b
+            WHERE b.status = :status AND b.priority = :priority AND b.updatedAt < :cutoff
+              AND (b.updatedAt > :afterUpdatedAt OR (b.updatedAt = :afterUpdatedAt AND b.id > :afterId))
+              AND (:unflaggedOnly = false OR b.escalatedAt IS NULL OR b.escalatedAt <= b.updatedAt)
+            ORDER BY b.updatedAt, b.id
+            """)
+    List<SlaCandidate> findStaleBugs(@Param("status") Bug.Status status, @Param("priority") Bug.Priority priority,
+                                     @Param("cutoff") Instant cutoff, @Param("afterUpdatedAt") Instant afterUpdatedAt,
+                                     @Param("afterId") Long afterId, @Param("unflaggedOnly") boolean unflaggedOnly,
+                                     Pageable pageable);
+
+    /**
+     * Set-based escalation of one chunk, re-checking status/priority in case the bug changed meanwhile.
+     * Native and synchronized on the sla_escalation space, which no entity or cached query uses, so
+     * Hibernate does not evict the whole bugs cache region; callers evict the touched bug entries.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sla_escalation"))
+    @Query(value = """
+            UPDATE bugs
+            SET priority = :next, escalated_at = :now, updated_at = :now, last_activity_at = :now
+            WHERE id IN (:bugIds) AND status = :status AND priority = :priority
+            """, nativeQuery = true)
+    int escalatePriority(@Param("bugIds") List<Long> bugIds, @Param("status") String status,
+                         @Param("priority") String priority, @Param("next") String next, @Param("now") Instant now);
+
+    // CRITICAL bugs cannot go higher, they are only flagged (updated_at is kept so the SLA clock is not reset)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sla_escalation"))
+    @Query(value = """
+            UPDATE bugs
+            SET escalated_at = :now, last_activity_at = :now
+            WHERE id IN (:bugIds) AND status = :status
+            """, nativeQuery = true)
+    int flagEscalated(@Param("bugIds") List<Long> bugIds, @Param("status") String status, @Param("now") Instant now);
+
+    /**
+     * Bugs assigned to or reported by the user, with comment counts, latest comment time
+     * and the number of comments by others posted after the user's last-seen marker.
+     * Computed in a single grouped query instead of one comments lookup per bug.
+     */
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.InboxItem(
+                b.id, b.title, b.status, b.priority,
+                CASE WHEN a.id = :userId THEN true ELSE false END,
+                CASE WHEN rep.id = :userId THEN true ELSE false END,
+                COUNT(c.id),
+                MAX(c.createdAt),
+                SUM(CASE WHEN c.id IS NOT NULL AND c.author.id <> :userId
+                              AND (rd.lastSeenAt IS NULL OR c.createdAt > rd.lastSeenAt)
+                         THEN 1 ELSE 0 END),
+                rd.lastSeenAt)
+            FROM Bug b
+            LEFT JOIN b.assignedUser a
+            LEFT JOIN b.reporter rep
+            LEFT JOIN BugRead rd ON rd.bug = b AND rd.user.id = :userId
+            LEFT JOIN Comment c ON c.bug = b AND c.projectId = b.projectId
+            WHERE a.id = :userId OR rep.id = :userId
+            GROUP BY b.id, b.title, b.status, b.priority, b.createdAt, a.id, rep.id, rd.lastSeenAt
+            ORDER BY b.createdAt DESC
+            """)
+    List<InboxItem> findInboxForUser(@Param("userId") Long userId);
     
 }
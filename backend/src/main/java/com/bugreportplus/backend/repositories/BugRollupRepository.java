@@ -0,0 +1,82 @@
+package com.bugreportplus.backend.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.dto.MttrRow;
+import com.bugreportplus.backend.dto.TrendPoint;
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.BugRollup;
+
+@Repository
+public interface BugRollupRepository extends JpaRepository<BugRollup, Long>{
+
+    // First half of the upsert: adds the deltas to an existing bucket row, 0 when the row does not exist yet
+    @Modifying
+    @Query("""
+            UPDATE BugRollup r
+            SET r.createdCount = r.createdCount + :created,
+                r.resolvedCount = r.resolvedCount + :resolved,
+                r.reopenedCount = r.reopenedCount + :reopened,
+                r.transitionCount = r.transitionCount + :transitions,
+                r.resolutionSecondsSum = r.resolutionSecondsSum + :resolutionSeconds
+            WHERE r.generation = :generation AND r.granularity = :granularity AND r.bucketStart = :bucketStart AND r.projectId = :projectId
+              AND r.status = :status AND r.priority = :priority AND r.assigneeId = :assigneeId
+            """)
+    int increment(@Param("generation") long generation, @Param("granularity") BugRollup.Granularity granularity, @Param("bucketStart") Instant bucketStart,
+                  @Param("projectId") Long projectId, @Param("status") Bug.Status status,
+                  @Param("priority") Bug.Priority priority, @Param("assigneeId") Long assigneeId,
+                  @Param("created") long created, @Param("resolved") long resolved,
+                  @Param("reopened") long reopened, @Param("transitions") long transitions,
+                  @Param("resolutionSeconds") long resolutionSeconds);
+
+    @Modifying
+    @Query("DELETE FROM BugRollup r WHERE r.generation = :generation")
+    int deleteGeneration(@Param("generation") long generation);
+
+    @Modifying
+    @Query("DELETE FROM BugRollup r WHERE r.generation < :generation")
+    int deleteGenerationsBefore(@Param("generation") long generation);
+
+    // Served by the uq_bug_rollups_bucket index (generation, granularity, bucket_start, ...)
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.TrendPoint(
+                r.bucketStart, SUM(r.createdCount), SUM(r.resolvedCount), SUM(r.reopenedCount),
+                SUM(r.transitionCount), SUM(r.resolutionSecondsSum))
+            FROM BugRollup r
+            WHERE r.generation = :generation AND r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+              AND (:projectId IS NULL OR r.projectId = :projectId)
+              AND (:status IS NULL OR r.status = :status)
+              AND (:priority IS NULL OR r.priority = :priority)
+              AND (:assigneeId IS NULL OR r.assigneeId = :assigneeId)
+            GROUP BY r.bucketStart
+            ORDER BY r.bucketStart
+            """)
+    List<TrendPoint> findTrend(@Param("generation") long generation, @Param("granularity") BugRollup.Granularity granularity,
+                               @Param("from") Instant from, @Param("to") Instant to,
+                               @Param("projectId") Long projectId, @Param("status") Bug.Status status,
+                               @Param("priority") Bug.Priority priority,
+                               @Param("assigneeId") Long assigneeId);
+
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.MttrRow(
+                r.priority, SUM(r.resolvedCount), SUM(r.resolutionSecondsSum))
+            FROM BugRollup r
+            WHERE r.generation = :generation AND r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+              AND (:projectId IS NULL OR r.projectId = :projectId)
+              AND r.resolvedCount > 0
+            GROUP BY r.priority
+            ORDER BY r.priority
+            """)
+    List<MttrRow> findMttrByPriority(@Param("generation") long generation, @Param("granularity") BugRollup.Granularity granularity,
+                                     @Param("from") Instant from, @Param("to") Instant to,
+                                     @Param("projectId") Long projectId);
+}
@@ -1,15 +1,65 @@
 package com.bugreportplus.backend.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.bugreportplus.backend.dto.SyncComment;
 import com.bugreportplus.backend.models.Comment;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long>{
 
-    List<Comment> findByBugIdOrderByCreatedAtAsc(Long bugId);
+    // Comment thread of one bug, pruned to the project's partition
+    List<Comment> findByProjectIdAndBugIdOrderByCreatedAtAsc(Long projectId, Long bugId);
+
+    /**
+     * Ids of the latest perBug comments of each given bug in one windowed query.
+     * Served by idx_comments_bug_id_created_at. Unscoped because the batch endpoint accepts bug ids
+     * from any project; on Postgres each partition answers from its own copy of that index.
+     */
+    @Query(value = """
+            SELECT id FROM (
+                SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.bug_id ORDER BY c.created_at DESC, c.id DESC) AS rn
+                FROM comments c
+                WHERE c.bug_id IN (:bugIds)) ranked
+            WHERE rn <= :perBug
+            """, nativeQuery = true)
+    List<Long> findLatestIdsByBugIds(@Param("bugIds") Collection<Long> bugIds, @Param("perBug") int perBug);
+
+    // Second half of the batch read: the ranked comments with their authors in one join, newest first within each bug
+    @Query("""
+            SELECT c FROM Comment c
+            JOIN FETCH c.author
+            WHERE c.id IN :ids
+            ORDER BY c.bug.id, c.createdAt DESC, c.id DESC
+            """)
+    List<Comment> findWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.SyncComment(
+                c.id, c.bug.id, c.content, a.id, a.fullName, c.createdAt)
+            FROM Comment c
+            JOIN c.author a
+            WHERE c.createdAt > :since
+            ORDER BY c.createdAt
+            """)
+    List<SyncComment> findSyncCommentsCreatedAfter(@Param("since") Instant since);
+
+    @Query("""
+            SELECT new com.bugreportplus.backend.dto.SyncComment(
+                c.id, c.bug.id, c.content, a.id, a.fullName, c.createdAt)
+            FROM Comment c
+            JOIN c.author a
+            WHERE c.id > :afterId
+            ORDER BY c.id
+            """)
+    List<SyncComment> findSyncCommentsAfterId(@Param("afterId") Long afterId, Pageable pageable);
     
 }
@@ -0,0 +1,28 @@
+package com.bugreportplus.backend.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.DeletedRecord;
+
+@Repository
+public interface DeletedRecordRepository extends JpaRepository<DeletedRecord, Long>{
+
+    List<DeletedRecord> findByDeletedAtAfterOrderByDeletedAtAsc(Instant since);
+
+    // Deletes one bounded chunk of expired tombstones per call
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM deleted_records WHERE id IN (
+                SELECT id FROM deleted_records WHERE deleted_at < :cutoff ORDER BY id LIMIT :limit)
+            """, nativeQuery = true)
+    int purgeChunk(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,31 @@
+package com.bugreportplus.backend.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.models.JobLock;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String>{
+
+    // Takes the lease if it expired or is already ours; the row lock makes this atomic across nodes
+    @Modifying
+    @Query("""
+            UPDATE JobLock l SET l.lockedBy = :owner, l.lockedUntil = :until
+            WHERE l.lockName = :lockName AND (l.lockedUntil < :now OR l.lockedBy = :owner)
+            """)
+    int acquire(@Param("lockName") String lockName, @Param("owner") String owner,
+                @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Query("""
+            UPDATE JobLock l SET l.lockedBy = NULL, l.lockedUntil = :now
+            WHERE l.lockName = :lockName AND l.lockedBy = :owner
+            """)
+    int release(@Param("lockName") String lockName, @Param("owner") String owner, @Param("now") Instant now);
+}
@@ -0,0 +1,74 @@
+package com.bugreportplus.backend.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>{
+
+    // Next batch of deliveries whose (re)try time has come, oldest first
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.status = com.bugreportplus.backend.models.OutboxEvent.Status.PENDING AND e.nextAttemptAt <= :now
+            ORDER BY e.id
+            """)
+    List<OutboxEvent> findDue(@Param("now") Instant now, Pageable pageable);
+
+    // Marks a set of deliveries as done in one statement (SENT, SUPERSEDED or FAILED)
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.status = :status, e.processedAt = :now
+            WHERE e.id IN :ids AND e.status = com.bugreportplus.backend.models.OutboxEvent.Status.PENDING
+            """)
+    int complete(@Param("ids") List<Long> ids, @Param("status") OutboxEvent.Status status, @Param("now") Instant now);
+
+    // Older pending deliveries of the same coalesce key would only carry stale state once a newer one exists
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.status = com.bugreportplus.backend.models.OutboxEvent.Status.SUPERSEDED, e.processedAt = :now
+            WHERE e.coalesceKey = :coalesceKey AND e.endpointName IN :endpointNames
+              AND e.status = com.bugreportplus.backend.models.OutboxEvent.Status.PENDING
+            """)
+    int supersedePending(@Param("coalesceKey") String coalesceKey, @Param("endpointNames") List<String> endpointNames,
+                         @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError
+            WHERE e.id = :id
+            """)
+    int scheduleRetry(@Param("id") Long id, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.status = com.bugreportplus.backend.models.OutboxEvent.Status.FAILED,
+                e.attempts = :attempts, e.lastError = :lastError, e.processedAt = :now
+            WHERE e.id = :id
+            """)
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts,
+                   @Param("lastError") String lastError, @Param("now") Instant now);
+
+    // Deletes one bounded chunk of processed rows per call, pending rows are never removed
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox_events WHERE id IN (
+                SELECT id FROM outbox_events WHERE created_at < :cutoff AND status <> 'PENDING' ORDER BY id LIMIT :limit)
+            """, nativeQuery = true)
+    int purgeChunk(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package com.bugreportplus.backend.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bugreportplus.backend.models.Project;
+
+@Repository
+public interface ProjectRepository extends JpaRepository<Project, Long>{
+
+    boolean existsByProjectKey(String projectKey);
+}
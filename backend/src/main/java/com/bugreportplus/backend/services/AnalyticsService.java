@@ -0,0 +1,78 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.dto.MttrRow;
+import com.bugreportplus.backend.dto.TrendPoint;
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.BugRollup;
+import com.bugreportplus.backend.repositories.BugRollupRepository;
+
+
+/**
+ * Trend and MTTR reports answered from bug_rollups only, never from the bugs table.
+ * Ranges are widened to whole buckets; data lags bug changes by up to one rollup job run.
+ * Reads the generation RollupService serves, so a rebuild in progress is invisible until it completes.
+ * A bug resolved, reopened and resolved again counts as two resolutions, each timed from its own start.
+ */
+@Service
+public class AnalyticsService {
+
+    private final BugRollupRepository bugRollupRepository;
+    private final RollupService rollupService;
+
+    // Constructor
+    public AnalyticsService(BugRollupRepository bugRollupRepository, RollupService rollupService) {
+        this.bugRollupRepository = bugRollupRepository;
+        this.rollupService = rollupService;
+    }
+
+    // Bugs created/resolved/reopened and status transitions per hour or day bucket,
+    // optionally for one project, status moved to, priority or assignee
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public List<TrendPoint> getTrend(BugRollup.Granularity granularity, Instant from, Instant to, Long projectId,
+                                     Bug.Status status, Bug.Priority priority, Long assigneeId) {
+        return bugRollupRepository.findTrend(rollupService.activeGeneration(), granularity,
+                RollupService.bucketStart(from, granularity), bucketEnd(to, granularity),
+                projectId, status, priority, assigneeId);
+    }
+
+    // Mean time to resolution per priority for bugs resolved in the range
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public List<MttrRow> getMttr(Instant from, Instant to, Long projectId) {
+        // Daily rows when the range is whole days (fewer rows to sum), hourly otherwise
+        BugRollup.Granularity granularity = isDayAligned(from) && isDayAligned(to)
+                ? BugRollup.Granularity.DAY
+                : BugRollup.Granularity.HOUR;
+
+        return bugRollupRepository.findMttrByPriority(rollupService.activeGeneration(), granularity,
+                RollupService.bucketStart(from, granularity), bucketEnd(to, granularity), projectId);
+    }
+
+    // Recompute all rollups from bug_events, starting on the rollup job's next run
+    @PreAuthorize("hasRole('ADMIN')")
+    public void requestRebuild() {
+        rollupService.requestRebuild();
+    }
+
+    private static boolean isDayAligned(Instant instant) {
+        return RollupService.bucketStart(instant, BugRollup.Granularity.DAY).equals(instant);
+    }
+
+    // Exclusive end, rounded up to the next bucket boundary
+    private static Instant bucketEnd(Instant to, BugRollup.Granularity granularity) {
+        Instant start = RollupService.bucketStart(to, granularity);
+        if(start.equals(to)) {
+            return to;
+        }
+        return start.plus(granularity == BugRollup.Granularity.HOUR ? Duration.ofHours(1) : Duration.ofDays(1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.cache.SerializedResponseCache;
+import com.bugreportplus.backend.repositories.ArchivedBugRepository;
+
+
+@Service
+public class ArchiveService {
+
+    private final ArchivedBugRepository archivedBugRepository;
+    private final SerializedResponseCache responseCache;
+
+    // Constructor
+    public ArchiveService(ArchivedBugRepository archivedBugRepository, SerializedResponseCache responseCache) {
+        this.archivedBugRepository = archivedBugRepository;
+        this.responseCache = responseCache;
+    }
+
+    // Find the next chunk of bugs closed before the cutoff
+    @Transactional(readOnly = true)
+    public List<Long> findArchivableBugIds(Instant cutoff, int limit) {
+        return archivedBugRepository.findArchivableBugIds(cutoff, limit);
+    }
+
+    /**
+     * Moves one chunk of bugs and their comments into the archive tables,
+     * leaving a delete tombstone per bug for delta sync. Read markers of archived bugs are dropped.
+     * Each chunk is its own short transaction so row locks are only held for a bounded batch.
+     *
+     * @return number of bugs archived
+     */
+    @Transactional
+    public int archiveChunk(List<Long> candidateIds) {
+        List<Long> bugIds = archivedBugRepository.lockArchivableBugs(candidateIds);
+        if(bugIds.isEmpty()) {
+            return 0;
+        }
+
+        Instant archivedAt = Instant.now();
+        archivedBugRepository.copyCommentsToArchive(bugIds);
+        archivedBugRepository.copyBugsToArchive(bugIds, archivedAt);
+        archivedBugRepository.writeTombstones(bugIds, archivedAt);
+        archivedBugRepository.deleteHotComments(bugIds);
+        bugIds.forEach(bugId -> {
+            responseCache.invalidate(SerializedResponseCache.Kind.BUG, bugId);
+            responseCache.invalidate(SerializedResponseCache.Kind.COMMENTS, bugId);
+        });
+
+        return archivedBugRepository.deleteHotBugs(bugIds);
+    }
+}
@@ -1,28 +1,51 @@
 package com.bugreportplus.backend.services;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.bugreportplus.backend.cache.SerializedResponseCache;
+import com.bugreportplus.backend.dto.BugField;
+import com.bugreportplus.backend.models.ArchivedBug;
 import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.BugEvent;
+import com.bugreportplus.backend.models.Project;
 import com.bugreportplus.backend.models.User;
+import com.bugreportplus.backend.repositories.ArchivedBugRepository;
+import com.bugreportplus.backend.repositories.BugEventRepository;
 import com.bugreportplus.backend.repositories.BugRepository;
+import com.bugreportplus.backend.repositories.ProjectRepository;
 
 
 @Service
 public class BugService {
 
     private final BugRepository bugRepository;
+    private final ArchivedBugRepository archivedBugRepository;
+    private final ProjectRepository projectRepository;
     private final UserService userService;
+    private final SerializedResponseCache responseCache;
+    private final OutboxService outboxService;
+    private final BugEventRepository bugEventRepository;
 
     // Constructor
-    public BugService(BugRepository bugRepository, UserService userService) {
+    public BugService(BugRepository bugRepository, ArchivedBugRepository archivedBugRepository, ProjectRepository projectRepository,
+                      UserService userService, SerializedResponseCache responseCache, OutboxService outboxService,
+                      BugEventRepository bugEventRepository) {
         this.bugRepository = bugRepository;
+        this.archivedBugRepository = archivedBugRepository;
+        this.projectRepository = projectRepository;
         this.userService = userService;
+        this.responseCache = responseCache;
+        this.outboxService = outboxService;
+        this.bugEventRepository = bugEventRepository;
     }
 
     // Create new Bug report
@@ -34,27 +57,65 @@ public class BugService {
             throw new RuntimeException("Reporter not found");
         }
 
+        if(bug.getProjectId() == null) {
+            bug.setProjectId(Project.DEFAULT_PROJECT_ID);
+        } else if(!projectRepository.existsById(bug.getProjectId())) {
+            throw new RuntimeException("Project not found");
+        }
+
         bug.setReporter(reporter);
         bug.setStatus(Bug.Status.OPEN);
+        bug.setCommentCount(0);
+        bug.setEscalatedAt(null);
+        bug.setUpdatedAt(Instant.now());
+        bug.setLastActivityAt(bug.getUpdatedAt());
         
         if(bug.getAssignedUser() ==  null) {
             bug.setAssignedUser(null);
         }
 
-        return bugRepository.save(bug);
+        Bug savedBug = bugRepository.save(bug);
+        bugEventRepository.save(new BugEvent(BugEvent.EventType.CREATED, savedBug, savedBug.getUpdatedAt()));
+
+        return savedBug;
     }
 
-    // Retrieve all bug reports
+    // Retrieve all bug reports, or those of one project when projectId is given
     @Transactional
     @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
-    public List<Bug> findAllBugs() {
-        return bugRepository.findAll();
+    public List<Bug> findAllBugs(Long projectId) {
+        return projectId == null ? bugRepository.findAll() : bugRepository.findByProjectId(projectId);
+    }
+
+    // Retrieve all bug reports, or those of one project, selecting only the requested columns
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public List<Map<String, Object>> findAllBugs(List<BugField> fields, Long projectId) {
+        return bugRepository.findAllWithFields(fields, projectId);
     }
 
-    // Retrieve a single bug by Id
+    // Retrieve the most recently active or most discussed bugs
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public List<Bug> findMostActiveBugs(boolean byComments, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+
+        return byComments
+                ? bugRepository.findAllByOrderByCommentCountDescIdDesc(page)
+                : bugRepository.findAllByOrderByLastActivityAtDescIdDesc(page);
+    }
+
+    // Retrieve a single bug by Id, falling through to the archive for old closed bugs
     @Transactional(readOnly = true)
     public Optional<Bug> findBugById(Long bugId) {
-        return bugRepository.findById(bugId);
+        return bugRepository.findById(bugId)
+                .or(() -> archivedBugRepository.findById(bugId).map(ArchivedBug::toBug));
+    }
+
+    // Version of a bug's cached responses: last_activity_at, or null once the bug is archived or gone
+    @Transactional(readOnly = true)
+    public Instant findResponseVersion(Long bugId) {
+        return bugRepository.findLastActivityAtById(bugId).orElse(null);
     }
 
     // Update Bug's details
@@ -65,6 +126,7 @@ public class BugService {
             bug.setDescription(updatedBug.getDescription());
             bug.setPriority(updatedBug.getPriority());
             bug.setUpdatedAt(updatedBug.getUpdatedAt());
+            responseCache.invalidate(SerializedResponseCache.Kind.BUG, bugId);
             return bugRepository.save(bug);
         });
     }
@@ -82,7 +144,11 @@ public class BugService {
         return bugRepository.findById(bugId).map(bug -> {
             bug.setAssignedUser(assignedUser);
             bug.setUpdatedAt(Instant.now());
-            
+            bug.setLastActivityAt(bug.getUpdatedAt());
+            responseCache.invalidate(SerializedResponseCache.Kind.BUG, bugId);
+            outboxService.enqueue(OutboxService.BUG_ASSIGNED, bugId, OutboxService.BUG_ASSIGNED + ":" + bugId,
+                    Map.of("bugId", bugId, "assignedUserId", assignedUserId, "title", bug.getTitle()));
+
             return bugRepository.save(bug);
         });
     }
@@ -92,13 +158,39 @@ public class BugService {
     @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
     public Optional<Bug> updateBugStatus(Long bugId, Bug.Status newStatus) {
         return bugRepository.findById(bugId).map(bug -> {
+            boolean resolves = isResolved(newStatus) && !isResolved(bug.getStatus());
+            boolean reopens = !isResolved(newStatus) && isResolved(bug.getStatus());
             bug.setStatus(newStatus);
             bug.setUpdatedAt(Instant.now());
-            
+            bug.setLastActivityAt(bug.getUpdatedAt());
+            responseCache.invalidate(SerializedResponseCache.Kind.BUG, bugId);
+            outboxService.enqueue(OutboxService.BUG_STATUS_CHANGED, bugId, OutboxService.BUG_STATUS_CHANGED + ":" + bugId,
+                    Map.of("bugId", bugId, "status", newStatus, "title", bug.getTitle()));
+
+            // Feeds the analytics rollups; RESOLVED carries the time to resolution, measured from the
+            // latest reopen if any, so each resolution cycle is counted and timed once
+            BugEvent.EventType eventType = resolves ? BugEvent.EventType.RESOLVED
+                    : reopens ? BugEvent.EventType.REOPENED
+                    : BugEvent.EventType.STATUS_CHANGED;
+            BugEvent event = new BugEvent(eventType, bug, bug.getUpdatedAt());
+            if(resolves) {
+                Instant openedAt = bugEventRepository.findFirstByBugIdAndEventTypeOrderByIdDesc(bugId, BugEvent.EventType.REOPENED)
+                        .map(BugEvent::getOccurredAt)
+                        .orElse(bug.getCreatedAt());
+                if(openedAt != null) {
+                    event.setResolutionSeconds(Math.max(Duration.between(openedAt, bug.getUpdatedAt()).toSeconds(), 0));
+                }
+            }
+            bugEventRepository.save(event);
+
             return bugRepository.save(bug);
         });
     }
 
+    private static boolean isResolved(Bug.Status status) {
+        return status == Bug.Status.RESOLVED || status == Bug.Status.CLOSED;
+    }
+
     // Filter bug report by user
     @Transactional(readOnly = true)
     public List<Bug> findBugReportedByUser(Long userId) {
@@ -1,14 +1,25 @@
 package com.bugreportplus.backend.services;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.bugreportplus.backend.cache.SerializedResponseCache;
 import com.bugreportplus.backend.models.*;
 import com.bugreportplus.backend.repositories.*;
 
+import jakarta.persistence.EntityManagerFactory;
+
 
 @Service
 public class CommentService {
@@ -16,11 +27,24 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final BugRepository bugRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
+    private final SerializedResponseCache responseCache;
+    private final OutboxService outboxService;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public CommentService(CommentRepository commentRepository, UserRepository userRepository, BugRepository bugRepository) {
+    public CommentService(CommentRepository commentRepository, UserRepository userRepository, BugRepository bugRepository,
+                          ArchivedCommentRepository archivedCommentRepository, DeletedRecordRepository deletedRecordRepository,
+                          SerializedResponseCache responseCache, OutboxService outboxService,
+                          EntityManagerFactory entityManagerFactory) {
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
         this.bugRepository = bugRepository;
+        this.archivedCommentRepository = archivedCommentRepository;
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.responseCache = responseCache;
+        this.outboxService = outboxService;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     /**
@@ -43,23 +67,101 @@ public class CommentService {
         User author = userOpt.get();
 
         Comment newComment = new Comment(content, bug, author);
+        Comment savedComment = commentRepository.save(newComment);
+        bugRepository.adjustCommentCount(bug.getProjectId(), bugId, 1, savedComment.getCreatedAt());
+        invalidateCachedResponses(bugId);
+        outboxService.enqueue(OutboxService.COMMENT_CREATED, bugId, null, Map.of(
+                "bugId", bugId, "commentId", savedComment.getId(), "authorId", authorId, "content", content));
 
-        return commentRepository.save(newComment);
+        return savedComment;
     }
 
     /**
-     * Retrieves all comments for a given bug, ordered by creation time
+     * Retrieves all comments for a given bug, ordered by creation time.
+     * The bug lookup (a primary-key read served by the bugs cache region) supplies the project,
+     * so the comments query is pruned to one partition. Falls through to the archive only when
+     * the bug is no longer in the hot table.
      */
     @Transactional
     public List<Comment> getCommentByBugId(Long bugId) {
-        return commentRepository.findByBugIdOrderByCreatedAtAsc(bugId);
+        Optional<Bug> bug = bugRepository.findById(bugId);
+        if(bug.isPresent()) {
+            return commentRepository.findByProjectIdAndBugIdOrderByCreatedAtAsc(bug.get().getProjectId(), bugId);
+        }
+
+        return archivedCommentRepository.findByBugIdOrderByCreatedAtAsc(bugId).stream()
+                .map(ArchivedComment::toComment)
+                .toList();
+    }
+
+    /**
+     * Retrieves the latest perBug comments for each of the given bugs, keyed by bug id in request order.
+     * Like getCommentByBugId, bugs no longer in the hot table are answered from the archive.
+     * Bugs without comments, and unknown ids, map to an empty list.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Comment>> getLatestCommentsByBugIds(List<Long> bugIds, int perBug) {
+        Map<Long, List<Comment>> commentsByBug = new LinkedHashMap<>();
+        bugIds.forEach(bugId -> commentsByBug.put(bugId, new ArrayList<>()));
+
+        // Rank ids first, then load those comments with their authors in one join rather than one user lookup each
+        List<Long> hotIds = commentRepository.findLatestIdsByBugIds(commentsByBug.keySet(), perBug);
+        if(!hotIds.isEmpty()) {
+            commentRepository.findWithAuthorByIdIn(hotIds)
+                    .forEach(comment -> commentsByBug.get(comment.getBug().getId()).add(comment));
+        }
+
+        // Archival moves a bug with all its comments, so only bugs without hot comments can be archived
+        Set<Long> withoutComments = new HashSet<>();
+        commentsByBug.forEach((bugId, comments) -> {
+            if(comments.isEmpty()) {
+                withoutComments.add(bugId);
+            }
+        });
+        if(!withoutComments.isEmpty()) {
+            withoutComments.removeAll(bugRepository.findExistingIds(withoutComments));
+        }
+        if(!withoutComments.isEmpty()) {
+            List<Long> archivedIds = archivedCommentRepository.findLatestIdsByBugIds(withoutComments, perBug);
+            if(!archivedIds.isEmpty()) {
+                archivedCommentRepository.findWithAuthorByIdIn(archivedIds)
+                        .forEach(comment -> commentsByBug.get(comment.getBugId()).add(comment.toComment()));
+            }
+        }
+
+        return commentsByBug;
     }
 
     /**
-     * Deletes comment by Id
+     * Deletes comment by Id, leaving a tombstone for delta-sync clients
      */
     @Transactional
     public void deleteComment(Long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findById(commentId).ifPresent(comment -> {
+            Long bugId = comment.getBug().getId();
+            Instant deletedAt = Instant.now();
+
+            commentRepository.delete(comment);
+            deletedRecordRepository.save(new DeletedRecord(DeletedRecord.EntityType.COMMENT, commentId, bugId, deletedAt));
+            bugRepository.adjustCommentCount(comment.getProjectId(), bugId, -1, deletedAt);
+            invalidateCachedResponses(bugId);
+        });
+    }
+
+    // The bug detail embeds comment_count, so both cached responses and the bug's
+    // second-level cache entry go stale. The entry is dropped now and again after commit.
+    private void invalidateCachedResponses(Long bugId) {
+        responseCache.invalidate(SerializedResponseCache.Kind.COMMENTS, bugId);
+        responseCache.invalidate(SerializedResponseCache.Kind.BUG, bugId);
+
+        entityManagerFactory.getCache().evict(Bug.class, bugId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(Bug.class, bugId);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.dto.InboxItem;
+import com.bugreportplus.backend.models.BugRead;
+import com.bugreportplus.backend.models.User;
+import com.bugreportplus.backend.repositories.BugReadRepository;
+import com.bugreportplus.backend.repositories.BugRepository;
+
+
+@Service
+public class InboxService {
+
+    private final BugRepository bugRepository;
+    private final BugReadRepository bugReadRepository;
+
+    // Constructor
+    public InboxService(BugRepository bugRepository, BugReadRepository bugReadRepository) {
+        this.bugRepository = bugRepository;
+        this.bugReadRepository = bugReadRepository;
+    }
+
+    // Retrieve bugs assigned to or reported by the user, with unread activity
+    @Transactional(readOnly = true)
+    public List<InboxItem> getInbox(Long userId) {
+        return bugRepository.findInboxForUser(userId);
+    }
+
+    // Move the user's last-seen marker for a bug to now
+    @Transactional
+    public Optional<BugRead> markSeen(User user, Long bugId) {
+        return bugRepository.findById(bugId).map(bug -> {
+            BugRead bugRead = bugReadRepository.findByUserIdAndBugId(user.getId(), bugId)
+                    .orElseGet(() -> new BugRead(user, bug, null));
+            bugRead.setLastSeenAt(Instant.now());
+
+            return bugReadRepository.save(bugRead);
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.bugreportplus.backend.services;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.repositories.JobLockRepository;
+
+
+/**
+ * Leader election for scheduled jobs through leases in job_locks.
+ * The row for each lock name is created by the migration that introduces the job.
+ */
+@Service
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final String nodeId;
+
+    // Constructor
+    public JobLockService(JobLockRepository jobLockRepository) {
+        this.jobLockRepository = jobLockRepository;
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // Lease expires on its own if this node dies mid-run
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String lockName, Duration lease) {
+        Instant now = Instant.now();
+        return jobLockRepository.acquire(lockName, nodeId, now, now.plus(lease)) == 1;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String lockName) {
+        jobLockRepository.release(lockName, nodeId, Instant.now());
+    }
+}
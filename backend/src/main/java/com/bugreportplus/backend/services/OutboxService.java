@@ -0,0 +1,82 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.OutboxEvent;
+import com.bugreportplus.backend.repositories.OutboxEventRepository;
+import com.bugreportplus.backend.webhooks.WebhookProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+/**
+ * Records webhook events in the outbox as part of the caller's transaction,
+ * so an event exists if and only if the change it describes was committed.
+ */
+@Service
+public class OutboxService {
+
+    public static final String BUG_ASSIGNED = "bug.assigned";
+    public static final String BUG_STATUS_CHANGED = "bug.status_changed";
+    public static final String COMMENT_CREATED = "comment.created";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final WebhookProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // Constructor
+    public OutboxService(OutboxEventRepository outboxEventRepository, WebhookProperties properties, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Fans the event out to one outbox row per subscribed endpoint.
+     * A non-null coalesceKey supersedes older pending events with the same key for those
+     * endpoints, including ones waiting for a retry, so only the newest state is delivered.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String eventType, Long bugId, String coalesceKey, Map<String, Object> data) {
+        if(!properties.isEnabled()) {
+            return;
+        }
+
+        List<WebhookProperties.Endpoint> endpoints = properties.getEndpoints().stream()
+                .filter(endpoint -> endpoint.accepts(eventType))
+                .toList();
+        if(endpoints.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        if(coalesceKey != null) {
+            outboxEventRepository.supersedePending(coalesceKey, endpoints.stream().map(WebhookProperties.Endpoint::getName).toList(), now);
+        }
+
+        String payload = toPayload(eventType, now, data);
+        outboxEventRepository.saveAll(endpoints.stream()
+                .map(endpoint -> new OutboxEvent(eventType, endpoint.getName(), bugId, coalesceKey, payload, now))
+                .toList());
+    }
+
+    private String toPayload(String eventType, Instant occurredAt, Map<String, Object> data) {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("type", eventType);
+        envelope.put("occurredAt", occurredAt);
+        envelope.put("data", data);
+
+        try {
+            return objectMapper.writeValueAsString(envelope);
+        } catch(JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize webhook event " + eventType, e);
+        }
+    }
+}
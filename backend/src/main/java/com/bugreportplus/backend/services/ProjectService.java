@@ -0,0 +1,100 @@
+package com.bugreportplus.backend.services;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.dto.ProjectBugCount;
+import com.bugreportplus.backend.dto.ProjectStats;
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.Comment;
+import com.bugreportplus.backend.models.Project;
+import com.bugreportplus.backend.repositories.BugRepository;
+import com.bugreportplus.backend.repositories.CommentRepository;
+import com.bugreportplus.backend.repositories.ProjectRepository;
+
+
+@Service
+public class ProjectService {
+
+    private final ProjectRepository projectRepository;
+    private final BugRepository bugRepository;
+    private final CommentRepository commentRepository;
+
+    // Constructor
+    public ProjectService(ProjectRepository projectRepository, BugRepository bugRepository, CommentRepository commentRepository) {
+        this.projectRepository = projectRepository;
+        this.bugRepository = bugRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    // Retrieve all projects
+    @Transactional(readOnly = true)
+    public List<Project> findAllProjects() {
+        return projectRepository.findAll();
+    }
+
+    // Create a new project, keys are unique
+    @Transactional
+    @PreAuthorize("hasRole('ADMIN')")
+    public Project createProject(Project project) {
+        if(projectRepository.existsByProjectKey(project.getProjectKey())) {
+            throw new IllegalStateException("Project key " + project.getProjectKey() + " is already in use.");
+        }
+
+        project.setId(null);
+        return projectRepository.save(project);
+    }
+
+    // Retrieve a project's most recently active bugs, empty when the project does not exist
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public Optional<List<Bug>> findProjectBugs(Long projectId, int limit) {
+        if(!projectRepository.existsById(projectId)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(bugRepository.findByProjectIdOrderByLastActivityAtDescIdDesc(projectId, PageRequest.of(0, limit)));
+    }
+
+    // Retrieve a single bug within its project
+    @Transactional(readOnly = true)
+    public Optional<Bug> findProjectBug(Long projectId, Long bugId) {
+        return bugRepository.findByProjectIdAndId(projectId, bugId);
+    }
+
+    // Retrieve a bug's comments within its project, empty when the bug is not in the project
+    @Transactional(readOnly = true)
+    public Optional<List<Comment>> findProjectBugComments(Long projectId, Long bugId) {
+        return bugRepository.findByProjectIdAndId(projectId, bugId)
+                .map(bug -> commentRepository.findByProjectIdAndBugIdOrderByCreatedAtAsc(projectId, bugId));
+    }
+
+    // Bug counts of a project, served from the project-stats query cache region
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public Optional<ProjectStats> getProjectStats(Long projectId) {
+        if(!projectRepository.existsById(projectId)) {
+            return Optional.empty();
+        }
+
+        List<ProjectBugCount> counts = bugRepository.countByProjectGroupByStatusAndPriority(projectId);
+        Map<Bug.Status, Long> byStatus = new EnumMap<>(Bug.Status.class);
+        Map<Bug.Priority, Long> byPriority = new EnumMap<>(Bug.Priority.class);
+        long total = 0;
+
+        for(ProjectBugCount count : counts) {
+            byStatus.merge(count.status(), count.count(), Long::sum);
+            byPriority.merge(count.priority(), count.count(), Long::sum);
+            total += count.count();
+        }
+
+        return Optional.of(new ProjectStats(projectId, total, byStatus, byPriority, counts));
+    }
+}
@@ -0,0 +1,241 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.BugEvent;
+import com.bugreportplus.backend.models.BugRollup;
+import com.bugreportplus.backend.models.JobCheckpoint;
+import com.bugreportplus.backend.repositories.BugEventRepository;
+import com.bugreportplus.backend.repositories.BugRollupRepository;
+import com.bugreportplus.backend.repositories.JobCheckpointRepository;
+
+
+/**
+ * Folds bug_events into the hourly and daily bug_rollups counters. Callers hold the
+ * bug-rollups job lock, so each chunk is the only writer of the rollup rows.
+ * Reports read one generation of rows; a rebuild fills the next generation alongside it
+ * and switches over only once it has caught up, so reports never see a half-built table.
+ */
+@Service
+public class RollupService {
+
+    public static final String JOB_NAME = "bug-rollups";
+    private static final String REBUILD_REQUEST = JOB_NAME + ":rebuild";
+    // Generation served to reports, 0 until the first rebuild completes
+    private static final String GENERATION = JOB_NAME + ":generation";
+    // Rebuild in progress: "generation|last event id folded into it"
+    private static final String REBUILD = JOB_NAME + ":rebuilding";
+
+    private record RollupKey(BugRollup.Granularity granularity, Instant bucketStart, Long projectId,
+                             Bug.Status status, Bug.Priority priority, Long assigneeId) {
+    }
+
+    private static final class Delta {
+        private long created;
+        private long resolved;
+        private long reopened;
+        private long transitions;
+        private long resolutionSeconds;
+    }
+
+    private final BugEventRepository bugEventRepository;
+    private final BugRollupRepository bugRollupRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    // Constructor
+    public RollupService(BugEventRepository bugEventRepository, BugRollupRepository bugRollupRepository,
+                         JobCheckpointRepository jobCheckpointRepository) {
+        this.bugEventRepository = bugEventRepository;
+        this.bugRollupRepository = bugRollupRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+    }
+
+    /**
+     * Applies the next chunk of events after the checkpoint to the served generation and moves
+     * the checkpoint, in one transaction.
+     * Events younger than the lag are left for the next run: ids are assigned at insert, so a slow
+     * transaction can still commit a lower id than events already visible.
+     * Returns the number of events consumed.
+     */
+    @Transactional
+    public int processChunk(int chunkSize, Duration lag) {
+        long afterId = jobCheckpointRepository.findById(JOB_NAME)
+                .map(checkpoint -> Long.parseLong(checkpoint.getCheckpointValue()))
+                .orElse(0L);
+        Instant cutoff = Instant.now().minus(lag);
+
+        List<BugEvent> events = bugEventRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize));
+        int settled = 0;
+        while(settled < events.size() && events.get(settled).getOccurredAt().isBefore(cutoff)) {
+            settled++;
+        }
+        if(settled == 0) {
+            return 0;
+        }
+
+        List<BugEvent> chunk = events.subList(0, settled);
+        long generation = activeGeneration();
+        aggregate(chunk).forEach((key, delta) -> upsert(generation, key, delta));
+
+        String lastId = String.valueOf(chunk.get(chunk.size() - 1).getId());
+        jobCheckpointRepository.save(new JobCheckpoint(JOB_NAME, lastId, Instant.now()));
+        return settled;
+    }
+
+    // Generation of rollup rows reports read
+    @Transactional(readOnly = true)
+    public long activeGeneration() {
+        return jobCheckpointRepository.findById(GENERATION)
+                .map(checkpoint -> Long.parseLong(checkpoint.getCheckpointValue()))
+                .orElse(0L);
+    }
+
+    /**
+     * Records a rebuild request. The rollup job performs it under its lock,
+     * so a reset can never interleave with a chunk in progress.
+     */
+    @Transactional
+    public void requestRebuild() {
+        jobCheckpointRepository.save(new JobCheckpoint(REBUILD_REQUEST, "requested", Instant.now()));
+    }
+
+    /**
+     * If a rebuild was requested, starts filling the generation after the served one from the
+     * first event. A request during a rebuild restarts it. Returns whether a rebuild started.
+     */
+    @Transactional
+    public boolean startRequestedRebuild() {
+        if(!jobCheckpointRepository.existsById(REBUILD_REQUEST)) {
+            return false;
+        }
+
+        // Rows left by a restarted rebuild are dropped, the new generation starts empty
+        long generation = activeGeneration() + 1;
+        bugRollupRepository.deleteGeneration(generation);
+        jobCheckpointRepository.save(new JobCheckpoint(REBUILD, generation + "|0", Instant.now()));
+        jobCheckpointRepository.deleteById(REBUILD_REQUEST);
+        return true;
+    }
+
+    /**
+     * Folds the next chunk of events into the generation being rebuilt, up to the events the served
+     * generation already holds. Once caught up, switches reports to the rebuilt generation; from then
+     * on processChunk keeps it current. Returns the number of events consumed, 0 when no rebuild runs.
+     */
+    @Transactional
+    public int rebuildChunk(int chunkSize) {
+        Optional<JobCheckpoint> rebuild = jobCheckpointRepository.findById(REBUILD);
+        if(rebuild.isEmpty()) {
+            return 0;
+        }
+
+        String[] position = rebuild.get().getCheckpointValue().split("\\|");
+        long generation = Long.parseLong(position[0]);
+        long afterId = Long.parseLong(position[1]);
+        long servedUpToId = jobCheckpointRepository.findById(JOB_NAME)
+                .map(checkpoint -> Long.parseLong(checkpoint.getCheckpointValue()))
+                .orElse(0L);
+
+        List<BugEvent> events = afterId < servedUpToId
+                ? bugEventRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize))
+                : List.of();
+        int caughtUp = 0;
+        while(caughtUp < events.size() && events.get(caughtUp).getId() <= servedUpToId) {
+            caughtUp++;
+        }
+
+        List<BugEvent> chunk = events.subList(0, caughtUp);
+        aggregate(chunk).forEach((key, delta) -> upsert(generation, key, delta));
+
+        if(caughtUp < chunkSize) {
+            // Same events as the served generation: switch in this transaction, the old rows are purged later
+            jobCheckpointRepository.save(new JobCheckpoint(GENERATION, String.valueOf(generation), Instant.now()));
+            jobCheckpointRepository.deleteById(REBUILD);
+        } else {
+            String lastId = String.valueOf(chunk.get(chunk.size() - 1).getId());
+            jobCheckpointRepository.save(new JobCheckpoint(REBUILD, generation + "|" + lastId, Instant.now()));
+        }
+        return caughtUp;
+    }
+
+    /**
+     * Deletes the rows of generations no longer served. Run at the start of the job rather than at the
+     * switch, so reports that read the old generation number just before it have long finished.
+     */
+    @Transactional
+    public int purgeRetiredGenerations() {
+        return bugRollupRepository.deleteGenerationsBefore(activeGeneration());
+    }
+
+    // Sums the chunk per bucket in memory, so each touched rollup row is written once per chunk
+    private static Map<RollupKey, Delta> aggregate(List<BugEvent> events) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+
+        for(BugEvent event : events) {
+            Long assigneeId = event.getAssignedUserId() != null ? event.getAssignedUserId() : BugRollup.UNASSIGNED;
+            for(BugRollup.Granularity granularity : BugRollup.Granularity.values()) {
+                RollupKey key = new RollupKey(granularity, bucketStart(event.getOccurredAt(), granularity),
+                        event.getProjectId(), event.getStatus(), event.getPriority(), assigneeId);
+                Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+
+                // Creation is not a transition; every later status change counts under the status it moved to
+                switch(event.getEventType()) {
+                    case CREATED -> delta.created++;
+                    case STATUS_CHANGED -> delta.transitions++;
+                    case REOPENED -> {
+                        delta.reopened++;
+                        delta.transitions++;
+                    }
+                    case RESOLVED -> {
+                        delta.resolved++;
+                        delta.transitions++;
+                        delta.resolutionSeconds += event.getResolutionSeconds() != null ? event.getResolutionSeconds() : 0;
+                    }
+                }
+            }
+        }
+
+        return deltas;
+    }
+
+    // Update-then-insert: no concurrent inserts can race, the job lock makes this the only writer
+    private void upsert(long generation, RollupKey key, Delta delta) {
+        int updated = bugRollupRepository.increment(generation, key.granularity(), key.bucketStart(), key.projectId(),
+                key.status(), key.priority(), key.assigneeId(), delta.created, delta.resolved, delta.reopened,
+                delta.transitions, delta.resolutionSeconds);
+        if(updated > 0) {
+            return;
+        }
+
+        BugRollup rollup = new BugRollup();
+        rollup.setGeneration(generation);
+        rollup.setGranularity(key.granularity());
+        rollup.setBucketStart(key.bucketStart());
+        rollup.setProjectId(key.projectId());
+        rollup.setStatus(key.status());
+        rollup.setPriority(key.priority());
+        rollup.setAssigneeId(key.assigneeId());
+        rollup.setCreatedCount(delta.created);
+        rollup.setResolvedCount(delta.resolved);
+        rollup.setReopenedCount(delta.reopened);
+        rollup.setTransitionCount(delta.transitions);
+        rollup.setResolutionSecondsSum(delta.resolutionSeconds);
+        bugRollupRepository.save(rollup);
+    }
+
+    // Buckets are UTC hours and days
+    public static Instant bucketStart(Instant instant, BugRollup.Granularity granularity) {
+        return instant.truncatedTo(granularity == BugRollup.Granularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+    }
+}
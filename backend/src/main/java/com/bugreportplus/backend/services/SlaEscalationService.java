@@ -0,0 +1,113 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bugreportplus.backend.cache.SerializedResponseCache;
+import com.bugreportplus.backend.dto.SlaCandidate;
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.models.JobCheckpoint;
+import com.bugreportplus.backend.repositories.BugRepository;
+import com.bugreportplus.backend.repositories.JobCheckpointRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+
+@Service
+public class SlaEscalationService {
+
+    public record ChunkResult(int rowsProcessed, boolean hasMore) {
+    }
+
+    private static final String CHECKPOINT_PREFIX = "sla-escalation:";
+    private static final String PROJECT_STATS_REGION = "project-stats";
+
+    private final BugRepository bugRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final SerializedResponseCache responseCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Constructor
+    public SlaEscalationService(BugRepository bugRepository, JobCheckpointRepository jobCheckpointRepository,
+                                SerializedResponseCache responseCache, EntityManagerFactory entityManagerFactory) {
+        this.bugRepository = bugRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.responseCache = responseCache;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Escalates (or, for CRITICAL, flags) one chunk of OPEN bugs untouched since the cutoff.
+     * The chunk's UPDATE and the new checkpoint commit together, so a restarted run resumes
+     * right after the last processed bug. A short chunk means the pass is complete and the
+     * checkpoint is cleared for the next run. Only the chunk's bug entries are evicted from the
+     * second-level cache, plus the per-project counts when priorities moved.
+     */
+    @Transactional
+    public ChunkResult escalateChunk(Bug.Priority priority, Instant cutoff, int chunkSize) {
+        String jobName = CHECKPOINT_PREFIX + priority;
+        SlaCandidate after = jobCheckpointRepository.findById(jobName)
+                .map(checkpoint -> parseCheckpoint(checkpoint.getCheckpointValue()))
+                .orElse(new SlaCandidate(0L, Instant.EPOCH));
+
+        boolean flagOnly = priority == Bug.Priority.CRITICAL;
+        List<SlaCandidate> chunk = bugRepository.findStaleBugs(Bug.Status.OPEN, priority, cutoff,
+                after.updatedAt(), after.id(), flagOnly, PageRequest.of(0, chunkSize));
+
+        if(chunk.isEmpty()) {
+            jobCheckpointRepository.deleteById(jobName);
+            return new ChunkResult(0, false);
+        }
+
+        List<Long> bugIds = chunk.stream().map(SlaCandidate::id).toList();
+        Instant now = Instant.now();
+        int rows = flagOnly
+                ? bugRepository.flagEscalated(bugIds, Bug.Status.OPEN.name(), now)
+                : bugRepository.escalatePriority(bugIds, Bug.Status.OPEN.name(), priority.name(), priority.escalated().name(), now);
+        bugIds.forEach(bugId -> responseCache.invalidate(SerializedResponseCache.Kind.BUG, bugId));
+        evictCachedBugs(bugIds, !flagOnly && rows > 0);
+
+        boolean hasMore = chunk.size() == chunkSize;
+        if(hasMore) {
+            SlaCandidate last = chunk.get(chunk.size() - 1);
+            jobCheckpointRepository.save(new JobCheckpoint(jobName, last.updatedAt() + "|" + last.id(), now));
+        } else {
+            jobCheckpointRepository.deleteById(jobName);
+        }
+
+        return new ChunkResult(rows, hasMore);
+    }
+
+    // Immediately and again after commit, so a concurrent load of pre-commit rows cannot linger
+    private void evictCachedBugs(List<Long> bugIds, boolean countsChanged) {
+        Runnable evict = () -> {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            bugIds.forEach(bugId -> cache.evictEntityData(Bug.class, bugId));
+            if(countsChanged) {
+                cache.evictQueryRegion(PROJECT_STATS_REGION);
+            }
+        };
+
+        evict.run();
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    private static SlaCandidate parseCheckpoint(String value) {
+        int separator = value.lastIndexOf('|');
+        return new SlaCandidate(Long.valueOf(value.substring(separator + 1)), Instant.parse(value.substring(0, separator)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bugreportplus.backend.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.dto.SyncBug;
+import com.bugreportplus.backend.dto.SyncComment;
+import com.bugreportplus.backend.dto.SyncResponse;
+import com.bugreportplus.backend.repositories.BugRepository;
+import com.bugreportplus.backend.repositories.CommentRepository;
+import com.bugreportplus.backend.repositories.DeletedRecordRepository;
+
+
+@Service
+public class SyncService {
+
+    private final BugRepository bugRepository;
+    private final CommentRepository commentRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
+    private final Duration watermarkLag;
+    private final Duration tombstoneRetention;
+
+    // Constructor
+    public SyncService(BugRepository bugRepository, CommentRepository commentRepository,
+                       DeletedRecordRepository deletedRecordRepository,
+                       @Value("${bugreport.sync.watermark-lag-seconds:5}") long watermarkLagSeconds,
+                       @Value("${bugreport.sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.bugRepository = bugRepository;
+        this.commentRepository = commentRepository;
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.watermarkLag = Duration.ofSeconds(watermarkLagSeconds);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    /**
+     * Returns bugs and comments changed after the watermark, plus tombstones for deletes.
+     * The new watermark trails "now" by a small lag so rows written by transactions that
+     * commit slightly late are picked up on the next poll rather than skipped.
+     * A missing or expired watermark (older than the tombstone retention) starts a full resync,
+     * served in pages of at most limit bugs and limit comments in id order. The watermark is fixed
+     * when the resync starts and carried in the cursor, so changes made while the client pages
+     * through are picked up by the first incremental poll after the last page.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'QA')")
+    public SyncResponse changesSince(Instant since, String cursor, int limit) {
+        Instant now = Instant.now();
+
+        if(cursor != null) {
+            return resyncPage(ResyncCursor.decode(cursor), limit);
+        }
+        if(since == null || since.isBefore(now.minus(tombstoneRetention))) {
+            return resyncPage(new ResyncCursor(now.minus(watermarkLag), 0L, 0L), limit);
+        }
+
+        Instant watermark = now.minus(watermarkLag);
+        return new SyncResponse(
+                bugRepository.findSyncBugsChangedAfter(since),
+                commentRepository.findSyncCommentsCreatedAfter(since),
+                deletedRecordRepository.findByDeletedAtAfterOrderByDeletedAtAsc(since),
+                watermark.isAfter(since) ? watermark : since,
+                false,
+                null);
+    }
+
+    private SyncResponse resyncPage(ResyncCursor position, int limit) {
+        List<SyncBug> bugs = bugRepository.findSyncBugsAfterId(position.afterBugId(), PageRequest.of(0, limit));
+        List<SyncComment> comments = commentRepository.findSyncCommentsAfterId(position.afterCommentId(), PageRequest.of(0, limit));
+
+        String nextCursor = null;
+        if(bugs.size() == limit || comments.size() == limit) {
+            nextCursor = new ResyncCursor(
+                    position.watermark(),
+                    bugs.isEmpty() ? position.afterBugId() : bugs.get(bugs.size() - 1).id(),
+                    comments.isEmpty() ? position.afterCommentId() : comments.get(comments.size() - 1).id())
+                    .encode();
+        }
+        return new SyncResponse(bugs, comments, List.of(), position.watermark(), true, nextCursor);
+    }
+
+    // Opaque to clients: base64url of "watermarkMillis|afterBugId|afterCommentId"
+    private record ResyncCursor(Instant watermark, long afterBugId, long afterCommentId) {
+
+        String encode() {
+            String raw = watermark.toEpochMilli() + "|" + afterBugId + "|" + afterCommentId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ResyncCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|");
+                if(parts.length != 3) {
+                    throw new IllegalArgumentException("Invalid cursor.");
+                }
+                return new ResyncCursor(Instant.ofEpochMilli(Long.parseLong(parts[0])),
+                        Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException and Base64 decoding errors are both IllegalArgumentExceptions
+                throw new IllegalArgumentException("Invalid cursor.", e);
+            }
+        }
+    }
+}
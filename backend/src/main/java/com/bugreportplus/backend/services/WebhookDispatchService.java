@@ -0,0 +1,193 @@
+package com.bugreportplus.backend.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.bugreportplus.backend.models.OutboxEvent;
+import com.bugreportplus.backend.repositories.OutboxEventRepository;
+import com.bugreportplus.backend.webhooks.WebhookClient;
+import com.bugreportplus.backend.webhooks.WebhookProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+/**
+ * Delivers one batch of due outbox rows. No transaction is held open while requests are
+ * in flight; outcomes are written back with bulk updates once the whole batch settled.
+ * No delivery starts after the caller's deadline, so a slow endpoint cannot keep a batch
+ * running past the dispatcher's lease; rows not started stay pending for the next run.
+ */
+@Service
+public class WebhookDispatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatchService.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final WebhookClient webhookClient;
+    private final WebhookProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+
+    // Constructor
+    public WebhookDispatchService(OutboxEventRepository outboxEventRepository, WebhookClient webhookClient,
+                                  WebhookProperties properties, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.webhookClient = webhookClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Sends the next batch of due deliveries, starting none after the deadline,
+     * and returns how many rows were taken off the queue
+     */
+    public int dispatchBatch(Instant deadline) throws InterruptedException {
+        Instant now = Instant.now();
+        List<OutboxEvent> due = outboxEventRepository.findDue(now, PageRequest.of(0, properties.getBatchSize()));
+        if(due.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEvent> toSend = coalesce(due);
+        Map<String, WebhookProperties.Endpoint> endpoints = new HashMap<>();
+        properties.getEndpoints().forEach(endpoint -> endpoints.put(endpoint.getName(), endpoint));
+
+        Map<OutboxEvent, CompletableFuture<Integer>> inFlight = new LinkedHashMap<>();
+        int notStarted = 0;
+        for(OutboxEvent event : toSend) {
+            WebhookProperties.Endpoint endpoint = endpoints.get(event.getEndpointName());
+            if(endpoint == null) {
+                outboxEventRepository.markFailed(event.getId(), event.getAttempts(), "Endpoint no longer configured", now);
+                continue;
+            }
+            CompletableFuture<Integer> future = send(endpoint, event, deadline);
+            if(future == null) {
+                notStarted++;
+                continue;
+            }
+            inFlight.put(event, future);
+        }
+
+        CompletableFuture.allOf(inFlight.values().toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+
+        List<Long> sent = new ArrayList<>();
+        inFlight.forEach((event, future) -> {
+            String error = errorOf(future);
+            if(error == null) {
+                sent.add(event.getId());
+            } else {
+                handleFailure(event, error);
+            }
+            meterRegistry.counter("bugreport.webhooks.deliveries",
+                    "endpoint", event.getEndpointName(), "outcome", error == null ? "sent" : "failed").increment();
+        });
+
+        if(!sent.isEmpty()) {
+            outboxEventRepository.complete(sent, OutboxEvent.Status.SENT, Instant.now());
+        }
+
+        return due.size() - notStarted;
+    }
+
+    /**
+     * Within the batch, keeps only the newest event per (endpoint, coalesce key),
+     * e.g. three quick status changes of one bug become a single delivery of the final status.
+     * Enqueue already supersedes older pending rows; this catches events from concurrent
+     * transactions, which could not see each other's uncommitted rows.
+     */
+    private List<OutboxEvent> coalesce(List<OutboxEvent> due) {
+        Map<String, OutboxEvent> newest = new LinkedHashMap<>();
+        List<OutboxEvent> result = new ArrayList<>();
+        List<Long> superseded = new ArrayList<>();
+
+        for(OutboxEvent event : due) {
+            if(event.getCoalesceKey() == null) {
+                result.add(event);
+                continue;
+            }
+            OutboxEvent previous = newest.put(event.getEndpointName() + "|" + event.getCoalesceKey(), event);
+            if(previous != null) {
+                superseded.add(previous.getId());
+            }
+        }
+
+        if(!superseded.isEmpty()) {
+            outboxEventRepository.complete(superseded, OutboxEvent.Status.SUPERSEDED, Instant.now());
+            meterRegistry.counter("bugreport.webhooks.superseded").increment(superseded.size());
+        }
+
+        result.addAll(newest.values());
+        return result;
+    }
+
+    // Waits while the endpoint already has maxConcurrency deliveries in flight, returns null if the deadline passes first
+    private CompletableFuture<Integer> send(WebhookProperties.Endpoint endpoint, OutboxEvent event, Instant deadline)
+            throws InterruptedException {
+        Semaphore permits = endpointPermits.computeIfAbsent(endpoint.getName(),
+                name -> new Semaphore(Math.max(endpoint.getMaxConcurrency(), 1)));
+        long remainingMillis = Duration.between(Instant.now(), deadline).toMillis();
+        if(remainingMillis <= 0 || !permits.tryAcquire(remainingMillis, TimeUnit.MILLISECONDS)) {
+            return null;
+        }
+
+        CompletableFuture<Integer> future;
+        try {
+            future = webhookClient.post(endpoint.getUrl(), event.getEventType(), event.getId(), event.getPayload());
+        } catch(RuntimeException e) {
+            permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((status, ex) -> permits.release());
+    }
+
+    private static String errorOf(CompletableFuture<Integer> future) {
+        try {
+            int status = future.join();
+            return WebhookClient.isSuccess(status) ? null : "HTTP " + status;
+        } catch(RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        }
+    }
+
+    private void handleFailure(OutboxEvent event, String error) {
+        int attempts = event.getAttempts() + 1;
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if(attempts >= properties.getMaxAttempts()) {
+            outboxEventRepository.markFailed(event.getId(), attempts, lastError, Instant.now());
+            log.warn("Giving up on webhook delivery {} to {} after {} attempts: {}",
+                    event.getId(), event.getEndpointName(), attempts, lastError);
+            return;
+        }
+
+        outboxEventRepository.scheduleRetry(event.getId(), attempts, Instant.now().plus(backoff(attempts)), lastError);
+    }
+
+    // Exponential backoff with +-20% jitter so retries to a recovering endpoint do not arrive in lockstep
+    private Duration backoff(int attempts) {
+        long initialMillis = properties.getInitialBackoff().toMillis();
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        long millis = attempts >= 31 ? maxMillis : Math.min(initialMillis << (attempts - 1), maxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (millis * jitter));
+    }
+}
@@ -0,0 +1,108 @@
+package com.bugreportplus.backend.startup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Skips Flyway's classpath scan, history query and checksum validation when the
+ * migration scripts are byte-for-byte the ones the database was last migrated with.
+ * The fingerprint (SHA-256 over script names and contents) is stored in schema_fingerprint.
+ * Pods starting together all run this: Flyway serializes the migrate itself, and the
+ * fingerprint is written with a single upsert so concurrent writers cannot collide.
+ */
+public class FingerprintFlywayMigrationStrategy implements FlywayMigrationStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(FingerprintFlywayMigrationStrategy.class);
+
+    @Override
+    public void migrate(Flyway flyway) {
+        String fingerprint = computeFingerprint(flyway.getConfiguration().getLocations());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+
+        try {
+            jdbcTemplate.execute("""
+                    CREATE TABLE IF NOT EXISTS schema_fingerprint (
+                        id INTEGER PRIMARY KEY,
+                        fingerprint VARCHAR(64) NOT NULL,
+                        applied_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+                    )""");
+        } catch (DuplicateKeyException e) {
+            // Postgres: another pod created the table concurrently, IF NOT EXISTS does not cover that race
+            log.debug("schema_fingerprint created concurrently by another node", e);
+        }
+
+        List<String> stored = jdbcTemplate.queryForList("SELECT fingerprint FROM schema_fingerprint WHERE id = 1", String.class);
+        if(fingerprint != null && stored.contains(fingerprint)) {
+            log.info("Migration scripts unchanged (fingerprint {}), skipping Flyway validate/migrate", fingerprint);
+            return;
+        }
+
+        flyway.migrate();
+
+        if(fingerprint != null) {
+            jdbcTemplate.update(upsertSql(jdbcTemplate), fingerprint, Timestamp.from(Instant.now()));
+        }
+    }
+
+    // One atomic statement per vendor: concurrent starts overwrite each other instead of hitting id 1 twice
+    private static String upsertSql(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        if("PostgreSQL".equalsIgnoreCase(product)) {
+            return """
+                    INSERT INTO schema_fingerprint (id, fingerprint, applied_at) VALUES (1, ?, ?)
+                    ON CONFLICT (id) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, applied_at = EXCLUDED.applied_at""";
+        }
+        return "MERGE INTO schema_fingerprint (id, fingerprint, applied_at) KEY (id) VALUES (1, ?, ?)";
+    }
+
+    // Returns null when a location cannot be fingerprinted, which forces a normal migrate
+    private String computeFingerprint(Location[] locations) {
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for(Location location : locations) {
+                String descriptor = location.getDescriptor();
+                if(!descriptor.startsWith("classpath:")) {
+                    return null;
+                }
+
+                Resource[] scripts = resolver.getResources("classpath*:" + descriptor.substring("classpath:".length()) + "/**/*.sql");
+                Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+
+                for(Resource script : scripts) {
+                    digest.update(script.getFilename().getBytes());
+                    try (InputStream in = script.getInputStream()) {
+                        digest.update(in.readAllBytes());
+                    }
+                }
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Could not fingerprint migration scripts, running Flyway normally", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bugreportplus.backend.startup;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+@Configuration
+public class StartupConfiguration {
+
+    /**
+     * With spring.main.lazy-initialization=true keep the request path eager,
+     * so the first real request does not pay for creating controllers and their services
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerControllersFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && AnnotatedElementUtils.hasAnnotation(beanType, RestController.class);
+    }
+
+    @Bean
+    @ConditionalOnClass(Flyway.class)
+    @ConditionalOnProperty(name = "bugreport.startup.flyway-fingerprint.enabled", havingValue = "true")
+    public FlywayMigrationStrategy fingerprintFlywayMigrationStrategy() {
+        return new FingerprintFlywayMigrationStrategy();
+    }
+}
@@ -0,0 +1,101 @@
+package com.bugreportplus.backend.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bugreportplus.backend.models.Bug;
+import com.bugreportplus.backend.repositories.BugRepository;
+import com.bugreportplus.backend.repositories.CommentRepository;
+import com.bugreportplus.backend.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Logs startup timings and, when bugreport.startup.warmup.enabled=true, runs the hot read
+ * queries and their JSON serialization a few times before the pod takes traffic.
+ * ApplicationReadyEvent listeners run before Spring Boot flips readiness to ACCEPTING_TRAFFIC,
+ * so /actuator/health/readiness stays down until the warm-up is finished.
+ */
+@Component
+public class StartupWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final BugRepository bugRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int iterations;
+
+    // Constructor
+    public StartupWarmup(BugRepository bugRepository, CommentRepository commentRepository, UserRepository userRepository,
+                         ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                         @Value("${bugreport.startup.warmup.enabled:false}") boolean enabled,
+                         @Value("${bugreport.startup.warmup.iterations:20}") int iterations) {
+        this.bugRepository = bugRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        log.info("Context ready in {} ms, JVM uptime {} ms, CDS archive: {}",
+                event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                usesSharedArchive() ? "yes" : "no");
+
+        if(!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            for(int i = 0; i < iterations; i++) {
+                readOnlyTransaction.executeWithoutResult(status -> exerciseHotPaths());
+            }
+            log.info("Warm-up finished, {} iterations in {} ms", iterations, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Warm-up is best effort, never block the pod from becoming ready
+            log.warn("Warm-up aborted", e);
+        }
+    }
+
+    private void exerciseHotPaths() {
+        try {
+            List<Bug> bugs = bugRepository.findAllByOrderByLastActivityAtDescIdDesc(PageRequest.of(0, 20));
+            objectMapper.writeValueAsBytes(bugs.stream().map(Bug::getTitle).toList());
+
+            if(!bugs.isEmpty()) {
+                Bug bug = bugs.get(0);
+                bugRepository.findById(bug.getId());
+                objectMapper.writeValueAsBytes(commentRepository.findByProjectIdAndBugIdOrderByCreatedAtAsc(bug.getProjectId(), bug.getId()));
+            }
+
+            userRepository.findAll(PageRequest.of(0, 1))
+                    .forEach(user -> bugRepository.findInboxForUser(user.getId()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Warm-up query failed", e);
+        }
+    }
+
+    private static boolean usesSharedArchive() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+    }
+}
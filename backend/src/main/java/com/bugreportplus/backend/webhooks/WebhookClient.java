@@ -0,0 +1,50 @@
+package com.bugreportplus.backend.webhooks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Thin async JSON POST client for webhook deliveries on the JDK HttpClient.
+ * Receivers can de-duplicate retries by the X-BugReport-Delivery header.
+ */
+public class WebhookClient {
+
+    public static final String EVENT_HEADER = "X-BugReport-Event";
+    public static final String DELIVERY_HEADER = "X-BugReport-Delivery";
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    // Constructor
+    public WebhookClient(Duration connectTimeout, Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Completes with the response status code, or exceptionally on connection failure or timeout
+     */
+    public CompletableFuture<Integer> post(String url, String eventType, Long deliveryId, String payload) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header(EVENT_HEADER, eventType)
+                .header(DELIVERY_HEADER, String.valueOf(deliveryId))
+                .POST(HttpRequest.BodyPublishers.ofString(payload))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    public static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
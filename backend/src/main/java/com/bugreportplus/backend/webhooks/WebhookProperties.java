@@ -0,0 +1,48 @@
+package com.bugreportplus.backend.webhooks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * bugreport.webhooks.* : outbound webhook endpoints and the outbox dispatcher's batching and retry policy
+ */
+@Data
+@ConfigurationProperties(prefix = "bugreport.webhooks")
+public class WebhookProperties {
+
+    private boolean enabled = true;
+    private int batchSize = 200;
+    private int maxAttempts = 8;
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration requestTimeout = Duration.ofSeconds(5);
+    private Duration lease = Duration.ofMinutes(2);
+
+    // Processed outbox rows older than this are purged
+    private Duration retention = Duration.ofDays(7);
+    private int purgeChunkSize = 5000;
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        private String name;
+        private String url;
+
+        // Event types this endpoint receives, empty means all
+        private List<String> events = new ArrayList<>();
+
+        // Deliveries in flight to this endpoint at once
+        private int maxConcurrency = 4;
+
+        public boolean accepts(String eventType) {
+            return events.isEmpty() || events.contains(eventType);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+-- Append-only log of bug lifecycle changes, the source for analytics rollups
+CREATE TABLE bug_events (
+    id BIGSERIAL PRIMARY KEY,
+    bug_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id BIGINT,
+    resolution_seconds BIGINT,
+    occurred_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Backfill: a CREATED event per bug, plus a RESOLVED event for bugs already resolved or closed
+-- (resolution time approximated by the last update)
+INSERT INTO bug_events (bug_id, project_id, event_type, status, priority, assigned_user_id, resolution_seconds, occurred_at)
+SELECT id, project_id, 'CREATED', 'OPEN', priority, assigned_user_id, NULL, COALESCE(created_at, updated_at)
+FROM bugs;
+
+INSERT INTO bug_events (bug_id, project_id, event_type, status, priority, assigned_user_id, resolution_seconds, occurred_at)
+SELECT id, project_id, 'CREATED', 'OPEN', priority, assigned_user_id, NULL, COALESCE(created_at, updated_at, archived_at)
+FROM bugs_archive;
+
+INSERT INTO bug_events (bug_id, project_id, event_type, status, priority, assigned_user_id, resolution_seconds, occurred_at)
+SELECT id, project_id, 'RESOLVED', status, priority, assigned_user_id,
+       CAST(EXTRACT(EPOCH FROM updated_at) - EXTRACT(EPOCH FROM COALESCE(created_at, updated_at)) AS BIGINT), updated_at
+FROM bugs
+WHERE status IN ('RESOLVED', 'CLOSED');
+
+INSERT INTO bug_events (bug_id, project_id, event_type, status, priority, assigned_user_id, resolution_seconds, occurred_at)
+SELECT id, project_id, 'RESOLVED', status, priority, assigned_user_id,
+       CAST(EXTRACT(EPOCH FROM COALESCE(updated_at, archived_at)) - EXTRACT(EPOCH FROM COALESCE(created_at, updated_at, archived_at)) AS BIGINT),
+       COALESCE(updated_at, archived_at)
+FROM bugs_archive
+WHERE status IN ('RESOLVED', 'CLOSED');
+
+-- Hourly and daily counters per project/status/priority/assignee, maintained incrementally
+-- from bug_events. assignee_id 0 stands for unassigned so the unique key stays NULL-free.
+CREATE TABLE bug_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    project_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assignee_id BIGINT NOT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    resolution_seconds_sum BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uq_bug_rollups_bucket
+        UNIQUE (granularity, bucket_start, project_id, status, priority, assignee_id)
+);
+
+INSERT INTO job_locks (lock_name, locked_by, locked_until) VALUES ('bug-rollups', NULL, TIMESTAMP '1970-01-01 00:00:00');
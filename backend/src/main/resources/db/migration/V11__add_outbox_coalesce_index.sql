@@ -0,0 +1,2 @@
+-- Enqueue supersedes older pending deliveries with the same (endpoint, coalesce key)
+CREATE INDEX idx_outbox_events_coalesce ON outbox_events (coalesce_key, endpoint_name, status);
@@ -0,0 +1,16 @@
+-- Rebuilds fill a new generation next to the one being served and switch over once caught up
+ALTER TABLE bug_rollups ADD COLUMN generation BIGINT NOT NULL DEFAULT 0;
+
+-- Every status change counts once under the status it moved to; reopens are also counted on their own
+ALTER TABLE bug_rollups ADD COLUMN transition_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE bug_rollups ADD COLUMN reopened_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE bug_rollups DROP CONSTRAINT uq_bug_rollups_bucket;
+ALTER TABLE bug_rollups ADD CONSTRAINT uq_bug_rollups_bucket
+    UNIQUE (generation, granularity, bucket_start, project_id, status, priority, assignee_id);
+
+-- Resolution time is measured from the bug's latest REOPENED event
+CREATE INDEX idx_bug_events_bug_type ON bug_events (bug_id, event_type, id);
+
+-- Existing rollups have no transition counts: recompute them from bug_events on the next job run
+INSERT INTO job_checkpoints (job_name, checkpoint_value, updated_at) VALUES ('bug-rollups:rebuild', 'requested', CURRENT_TIMESTAMP);
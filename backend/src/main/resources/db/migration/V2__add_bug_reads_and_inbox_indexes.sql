@@ -0,0 +1,24 @@
+CREATE TABLE bug_reads (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    bug_id BIGINT NOT NULL,
+    last_seen_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+
+    CONSTRAINT uq_bug_reads_user_bug
+        UNIQUE (user_id, bug_id),
+
+    CONSTRAINT fk_bug_reads_user
+        FOREIGN KEY (user_id)
+        REFERENCES users (id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_bug_reads_bug
+        FOREIGN KEY (bug_id)
+        REFERENCES bugs (id)
+        ON DELETE CASCADE
+);
+
+-- Inbox lookups filter by assignee or reporter and aggregate comments per bug
+CREATE INDEX idx_bugs_assigned_user_id ON bugs (assigned_user_id);
+CREATE INDEX idx_bugs_reporter_id ON bugs (reporter_id);
+CREATE INDEX idx_comments_bug_id_created_at ON comments (bug_id, created_at);
@@ -0,0 +1,13 @@
+ALTER TABLE bugs ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE bugs ADD COLUMN last_activity_at TIMESTAMP WITHOUT TIME ZONE;
+
+-- Backfill from existing comments
+UPDATE bugs
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.bug_id = bugs.id),
+    last_activity_at = GREATEST(
+        COALESCE((SELECT MAX(c.created_at) FROM comments c WHERE c.bug_id = bugs.id), created_at),
+        COALESCE(updated_at, created_at));
+
+-- "Most active" / "most discussed" sorts become index scans
+CREATE INDEX idx_bugs_last_activity_at ON bugs (last_activity_at DESC, id DESC);
+CREATE INDEX idx_bugs_comment_count ON bugs (comment_count DESC, id DESC);
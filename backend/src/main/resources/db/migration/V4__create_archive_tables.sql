@@ -0,0 +1,29 @@
+-- Cold storage for bugs closed/resolved longer than the retention period.
+-- No foreign keys back to the hot tables so rows can be moved in bulk.
+CREATE TABLE bugs_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    reporter_id BIGINT NOT NULL,
+    assigned_user_id BIGINT,
+    created_at TIMESTAMP WITHOUT TIME ZONE,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    comment_count INTEGER NOT NULL DEFAULT 0,
+    last_activity_at TIMESTAMP WITHOUT TIME ZONE,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE comments_archive (
+    id BIGINT PRIMARY KEY,
+    bug_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE
+);
+
+CREATE INDEX idx_comments_archive_bug_id_created_at ON comments_archive (bug_id, created_at);
+
+-- Candidate scan for the archival job
+CREATE INDEX idx_bugs_status_updated_at ON bugs (status, updated_at);
@@ -0,0 +1,14 @@
+-- Tombstones for hard deletes, so delta-sync clients can drop their local copies
+CREATE TABLE deleted_records (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    bug_id BIGINT,
+    deleted_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_deleted_records_deleted_at ON deleted_records (deleted_at);
+
+-- Delta sync reads comments created after the watermark
+-- (bugs use idx_bugs_last_activity_at)
+CREATE INDEX idx_comments_created_at ON comments (created_at);
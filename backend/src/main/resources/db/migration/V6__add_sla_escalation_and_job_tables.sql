@@ -0,0 +1,24 @@
+-- updated_at is the "last touched" clock for SLA checks, so it can no longer be empty
+UPDATE bugs SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+ALTER TABLE bugs ALTER COLUMN updated_at SET NOT NULL;
+
+ALTER TABLE bugs ADD COLUMN escalated_at TIMESTAMP WITHOUT TIME ZONE;
+
+-- Keyset scan of stale OPEN bugs per priority
+CREATE INDEX idx_bugs_status_priority_updated_at ON bugs (status, priority, updated_at, id);
+
+-- Resume positions for chunked background jobs
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    checkpoint_value VARCHAR(255) NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Leases so only one node runs a given job at a time. One row per job, created with the job.
+CREATE TABLE job_locks (
+    lock_name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+INSERT INTO job_locks (lock_name, locked_by, locked_until) VALUES ('sla-escalation', NULL, TIMESTAMP '1970-01-01 00:00:00');
@@ -0,0 +1,24 @@
+-- Transactional outbox for webhooks: one row per (event, endpoint), written with the change it describes
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    endpoint_name VARCHAR(100) NOT NULL,
+    bug_id BIGINT,
+    coalesce_key VARCHAR(100),
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITHOUT TIME ZONE
+);
+
+-- Dispatcher polls due PENDING rows in id order
+CREATE INDEX idx_outbox_events_status_next_attempt ON outbox_events (status, next_attempt_at, id);
+
+-- Bulk cleanup of processed rows by age
+CREATE INDEX idx_outbox_events_created_at ON outbox_events (created_at);
+
+INSERT INTO job_locks (lock_name, locked_by, locked_until) VALUES ('webhook-dispatch', NULL, TIMESTAMP '1970-01-01 00:00:00');
+INSERT INTO job_locks (lock_name, locked_by, locked_until) VALUES ('outbox-purge', NULL, TIMESTAMP '1970-01-01 00:00:00');
@@ -0,0 +1,14 @@
+-- Bugs are grouped into projects; existing bugs and comments land in the default project (id 1)
+CREATE TABLE projects (
+    id BIGSERIAL PRIMARY KEY,
+    project_key VARCHAR(20) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO projects (project_key, name) VALUES ('DEFAULT', 'Default project');
+
+ALTER TABLE bugs_archive ADD COLUMN project_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE comments_archive ADD COLUMN project_id BIGINT NOT NULL DEFAULT 1;
+
+-- bugs/comments get project_id in the vendor-specific V9 (db/vendor/{vendor})
@@ -0,0 +1,149 @@
+package com.bugreportplus.backend.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SerializedResponseCacheTest {
+
+    private static final Instant V1 = Instant.parse("2026-03-02T09:00:00Z");
+    private static final Instant V2 = Instant.parse("2026-03-02T09:05:00Z");
+
+    private static SerializedResponseCache newCache(long ttlSeconds) {
+        return new SerializedResponseCache(new ObjectMapper(), new SimpleMeterRegistry(), 100, 262144, 1024, ttlSeconds);
+    }
+
+    private static Supplier<Optional<?>> countingLoader(AtomicInteger loads) {
+        return () -> Optional.of(Map.of("id", 1, "version", loads.incrementAndGet()));
+    }
+
+    /**
+     * Should load on the first read and serve the same bytes from the cache afterwards
+     */
+    @Test
+    void get_MissThenHit() {
+        SerializedResponseCache cache = newCache(60);
+        AtomicInteger loads = new AtomicInteger();
+
+        CachedResponse first = cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads)).orElseThrow();
+        CachedResponse second = cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads)).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertEquals(first.etag(), second.etag());
+    }
+
+    /**
+     * Should not cache an empty loader result
+     */
+    @Test
+    void get_DoesNotCacheNotFound() {
+        SerializedResponseCache cache = newCache(60);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Optional<?>> missing = () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertTrue(cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, missing).isEmpty());
+        assertTrue(cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, missing).isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Should answer 304 Not Modified when the client's ETag matches
+     */
+    @Test
+    void toResponseEntity_NotModifiedOnMatchingEtag() {
+        SerializedResponseCache cache = newCache(60);
+        CachedResponse cached = cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(new AtomicInteger())).orElseThrow();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, cached.toResponseEntity(null, cached.etag()).getStatusCode());
+        assertEquals(HttpStatus.OK, cached.toResponseEntity(null, "\"other\"").getStatusCode());
+    }
+
+    /**
+     * Should drop an entry that was reloaded between the write and its commit
+     */
+    @Test
+    void invalidate_EvictsAgainAfterCommit() {
+        SerializedResponseCache cache = newCache(60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(SerializedResponseCache.Kind.BUG, 1L);
+            // A concurrent read before the commit repopulates the entry with pre-commit data
+            cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads));
+            assertEquals(2, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads));
+        assertEquals(3, loads.get());
+    }
+
+    /**
+     * Should serve but not store a load that overlapped an invalidation
+     */
+    @Test
+    void get_DoesNotStoreLoadOverlappingInvalidation() {
+        SerializedResponseCache cache = newCache(60);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Optional<?>> invalidatedWhileLoading = () -> {
+            cache.invalidate(SerializedResponseCache.Kind.BUG, 1L);
+            return countingLoader(loads).get();
+        };
+
+        assertTrue(cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, invalidatedWhileLoading).isPresent());
+        cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Should reload entries once their TTL has passed
+     */
+    @Test
+    void get_ReloadsExpiredEntries() {
+        SerializedResponseCache cache = newCache(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(SerializedResponseCache.Kind.COMMENTS, 1L, V1, countingLoader(loads));
+        cache.get(SerializedResponseCache.Kind.COMMENTS, 1L, V1, countingLoader(loads));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Should reload when the caller's version differs from the cached one, as after a write on another node
+     */
+    @Test
+    void get_ReloadsOnNewVersion() {
+        SerializedResponseCache cache = newCache(60);
+        AtomicInteger loads = new AtomicInteger();
+
+        CachedResponse first = cache.get(SerializedResponseCache.Kind.BUG, 1L, V1, countingLoader(loads)).orElseThrow();
+        CachedResponse second = cache.get(SerializedResponseCache.Kind.BUG, 1L, V2, countingLoader(loads)).orElseThrow();
+        cache.get(SerializedResponseCache.Kind.BUG, 1L, V2, countingLoader(loads));
+
+        assertEquals(2, loads.get());
+        assertNotEquals(first.etag(), second.etag());
+    }
+}
@@ -0,0 +1,119 @@
+package com.bugreportplus.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.repositories.*;
+import com.bugreportplus.backend.services.RollupService;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class AnalyticsControllerTest {
+
+    private static final Instant DAY = Instant.parse("2026-03-02T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BugEventRepository bugEventRepository;
+
+    @Autowired
+    private BugRollupRepository bugRollupRepository;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        bugRollupRepository.deleteAll();
+
+        // One bug created at 09:00 and resolved two hours later, one bug created and left open
+        bugEventRepository.save(event(1L, BugEvent.EventType.CREATED, Bug.Status.OPEN, DAY.plusSeconds(9 * 3600), null));
+        bugEventRepository.save(event(1L, BugEvent.EventType.RESOLVED, Bug.Status.RESOLVED, DAY.plusSeconds(11 * 3600), 7200L));
+        bugEventRepository.save(event(2L, BugEvent.EventType.CREATED, Bug.Status.OPEN, DAY.plusSeconds(13 * 3600), null));
+
+        rollupService.processChunk(1000, Duration.ZERO);
+    }
+
+    private static BugEvent event(Long bugId, BugEvent.EventType type, Bug.Status status, Instant occurredAt, Long resolutionSeconds) {
+        BugEvent event = new BugEvent();
+        event.setBugId(bugId);
+        event.setProjectId(Project.DEFAULT_PROJECT_ID);
+        event.setEventType(type);
+        event.setStatus(status);
+        event.setPriority(Bug.Priority.HIGH);
+        event.setOccurredAt(occurredAt);
+        event.setResolutionSeconds(resolutionSeconds);
+        return event;
+    }
+
+    /**
+     * Test case for GET /api/v1/analytics/trend
+     * Should answer daily created/resolved counts from the rollups
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getDailyTrend() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/trend")
+                        .param("from", DAY.toString())
+                        .param("to", DAY.plus(Duration.ofDays(1)).toString())
+                        .param("granularity", "day"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].created").value(2))
+                .andExpect(jsonPath("$[0].resolved").value(1))
+                .andExpect(jsonPath("$[0].reopened").value(0))
+                .andExpect(jsonPath("$[0].transitions").value(1))
+                .andExpect(jsonPath("$[0].meanResolutionSeconds").value(7200.0));
+    }
+
+    /**
+     * Test case for GET /api/v1/analytics/trend?status=
+     * Should only count the rows of the status moved to
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getDailyTrendByStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/trend")
+                        .param("from", DAY.toString())
+                        .param("to", DAY.plus(Duration.ofDays(1)).toString())
+                        .param("status", "RESOLVED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].created").value(0))
+                .andExpect(jsonPath("$[0].resolved").value(1));
+    }
+
+    /**
+     * Test case for GET /api/v1/analytics/mttr
+     * Should report mean time to resolution per priority
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getMttr() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/mttr")
+                        .param("from", DAY.toString())
+                        .param("to", DAY.plus(Duration.ofDays(1)).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$[0].resolved").value(1))
+                .andExpect(jsonPath("$[0].meanResolutionSeconds").value(7200.0));
+    }
+}
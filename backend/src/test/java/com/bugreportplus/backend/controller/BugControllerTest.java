@@ -1,21 +1,40 @@
 package com.bugreportplus.backend.controller;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.bugreportplus.backend.models.Bug;
 import com.bugreportplus.backend.models.Bug.*;
+import com.bugreportplus.backend.models.Project;
 import com.bugreportplus.backend.models.User;
 import com.bugreportplus.backend.models.User.Role;
 import com.bugreportplus.backend.repositories.BugRepository;
 import com.bugreportplus.backend.repositories.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityManager;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -33,6 +52,12 @@ public class BugControllerTest {
     @Autowired
     private BugRepository bugRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     // IDs for pre-saved data
     private Long qaUserId;
     private Long devUserId;
@@ -90,6 +115,152 @@ public class BugControllerTest {
      * Should successfully retrieve all bugs in the database.
      */
 
+    /**
+     * Test case for GET /api/v1/bugs
+     * Should return the compact list view without description or nested users by default.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getAllBugs_CompactViewByDefault() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(openBugId))
+                .andExpect(jsonPath("$[0].title").value("Pre-existing Bug"))
+                .andExpect(jsonPath("$[0].status").value("OPEN"))
+                .andExpect(jsonPath("$[0].priority").value("MEDIUM"))
+                .andExpect(jsonPath("$[0]", hasKey("assigneeName")))
+                .andExpect(jsonPath("$[0].assigneeName").value(nullValue()))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].reporter").doesNotExist());
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs?fields=...
+     * Should return only the requested fields.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getAllBugs_SparseFieldset() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs").param("fields", "id,reporterName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(openBugId))
+                .andExpect(jsonPath("$[0].reporterName").value("QA Tester"))
+                .andExpect(jsonPath("$[0].title").doesNotExist());
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs?projectId=...
+     * Should return only the bugs of the given project, in both the compact and the full view.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getAllBugs_FilteredByProject() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs").param("projectId", String.valueOf(Project.DEFAULT_PROJECT_ID)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(openBugId));
+
+        mockMvc.perform(get("/api/v1/bugs").param("projectId", "999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/v1/bugs").param("view", "full").param("projectId", "999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs?fields=...
+     * Should return 400 Bad Request for unknown fields.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getAllBugs_UnknownField_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs?view=...
+     * Should return 400 Bad Request for an unknown view.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getAllBugs_UnknownView_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs").param("view", "detailed"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs?view=full&fields=...
+     * Should return 400 Bad Request when fields is combined with the full view.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getAllBugs_FieldsWithFullView_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs").param("view", "full").param("fields", "id,title"))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    /**
+     * Test case for GET /api/v1/bugs/{id} with If-None-Match
+     * Should return 304 Not Modified while the cached representation is unchanged.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getBugById_MatchingEtag_NotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/bugs/{id}", openBugId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Pre-existing Bug"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/bugs/{id}", openBugId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs/{id} after PATCH /api/v1/bugs/{id}/status
+     * Should serve the updated bug with a new ETag instead of the cached one.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getBugById_AfterStatusUpdate_ServesFreshResponse() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/bugs/{id}", openBugId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(patch("/api/v1/bugs/{id}/status", openBugId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("status", "RESOLVED"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/bugs/{id}", openBugId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RESOLVED"));
+    }
+
+    /**
+     * Test case for GET /api/v1/bugs/{id} after a write committed by another node
+     * Should serve the new version although this node's cache was never invalidated.
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getBugById_AfterWriteOnOtherNode_ServesFreshResponse() throws Exception {
+        mockMvc.perform(get("/api/v1/bugs/{id}", openBugId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Pre-existing Bug"));
+
+        // Another node's write: straight to the table, moving last_activity_at like every bug write
+        jdbcTemplate.update("UPDATE bugs SET title = ?, last_activity_at = ? WHERE id = ?",
+                "Renamed elsewhere", Timestamp.from(Instant.now().plusSeconds(1)), openBugId);
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evict(Bug.class, openBugId);
+
+        mockMvc.perform(get("/api/v1/bugs/{id}", openBugId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed elsewhere"));
+    }
 
     /**
      * Test case for PUT /api/v1/bugs/{id}/status
@@ -177,4 +177,39 @@ public class CommentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(requestBody)))
                 .andExpect(status().isUnauthorized());
     }
+
+    /**
+     * Test case for GET /api/v1/comments?bugIds=...&perBug=N
+     * Should return the latest N comments per bug, keyed by bug id
+     */
+    @Test
+    @WithMockUser(username = "test@example.com", roles = "QA")
+    void getLatestCommentsForBugs() throws Exception {
+        Bug bug = bugRepository.findById(testBugId).orElseThrow();
+        User user = userRepository.findById(testUserId).orElseThrow();
+        Comment newer = new Comment("Follow-up comment", bug, user);
+        newer.setCreatedAt(newer.getCreatedAt().plusSeconds(60));
+        Long newerCommentId = commentRepository.save(newer).getId();
+
+        mockMvc.perform(get("/api/v1/comments")
+                        .param("bugIds", testBugId + ",1234")
+                        .param("perBug", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + testBugId + "'].length()").value(1))
+                .andExpect(jsonPath("$['" + testBugId + "'][0].id").value(newerCommentId))
+                .andExpect(jsonPath("$['1234']").isEmpty());
+    }
+
+    /**
+     * Test case for GET /api/v1/comments
+     * Should return 400 Bad Request when perBug is out of range
+     */
+    @Test
+    @WithMockUser(username = "test@example.com", roles = "QA")
+    void getLatestCommentsForBugs_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/comments")
+                        .param("bugIds", String.valueOf(testBugId))
+                        .param("perBug", "51"))
+                .andExpect(status().isBadRequest());
+    }
 }
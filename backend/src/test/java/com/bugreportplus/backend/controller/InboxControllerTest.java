@@ -0,0 +1,122 @@
+package com.bugreportplus.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class InboxControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    // Mock Data Setup
+    private User devUser;
+    private Long assignedBugId;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository.deleteAll();
+        bugRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // 1. Setup QA user (reporter) and Dev user (assignee)
+        User qaUser = new User();
+        qaUser.setEmail("qa@example.com");
+        qaUser.setPassword("hashedPassword");
+        qaUser.setRole(Role.QA);
+        qaUser.setFullName("QA Tester");
+        qaUser = userRepository.save(qaUser);
+
+        devUser = new User();
+        devUser.setEmail("dev@example.com");
+        devUser.setPassword("hashedPassword");
+        devUser.setRole(Role.USER);
+        devUser.setFullName("Developer");
+        devUser = userRepository.save(devUser);
+
+        // 2. Setup a bug assigned to the Dev user
+        Bug assignedBug = new Bug();
+        assignedBug.setTitle("Assigned Bug");
+        assignedBug.setDescription("A bug assigned to the developer.");
+        assignedBug.setReporter(qaUser);
+        assignedBug.setAssignedUser(devUser);
+        assignedBug.setStatus(Bug.Status.OPEN);
+        assignedBug.setPriority(Bug.Priority.HIGH);
+        assignedBug = bugRepository.save(assignedBug);
+        assignedBugId = assignedBug.getId();
+
+        // 3. Two comments from QA, one from Dev
+        commentRepository.save(new Comment("First comment", assignedBug, qaUser));
+        commentRepository.save(new Comment("Second comment", assignedBug, qaUser));
+        commentRepository.save(new Comment("My reply", assignedBug, devUser));
+    }
+
+    /**
+     * Test case for GET /api/v1/me/inbox
+     * Should return assigned bugs with comment and unread counts
+     */
+    @Test
+    void getInbox_ReturnsActivityCounts() throws Exception {
+        mockMvc.perform(get("/api/v1/me/inbox").with(user(devUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].bugId").value(assignedBugId))
+                .andExpect(jsonPath("$[0].assignedToMe").value(true))
+                .andExpect(jsonPath("$[0].reportedByMe").value(false))
+                .andExpect(jsonPath("$[0].commentCount").value(3))
+                .andExpect(jsonPath("$[0].unreadCount").value(2));
+    }
+
+    /**
+     * Test case for PUT /api/v1/me/inbox/{bugId}/seen
+     * Should reset the unread count for the bug
+     */
+    @Test
+    void markSeen_ClearsUnreadCount() throws Exception {
+        mockMvc.perform(put("/api/v1/me/inbox/{bugId}/seen", assignedBugId).with(user(devUser)).with(csrf()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/me/inbox").with(user(devUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].unreadCount").value(0));
+    }
+
+    /**
+     * Test case for PUT /api/v1/me/inbox/{bugId}/seen
+     * Should return 404 Not Found if bug is invalid
+     */
+    @Test
+    void markSeen_InvalidBug_NotFound() throws Exception {
+        mockMvc.perform(put("/api/v1/me/inbox/{bugId}/seen", 1234L).with(user(devUser)).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+}
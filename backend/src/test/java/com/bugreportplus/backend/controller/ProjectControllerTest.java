@@ -0,0 +1,109 @@
+package com.bugreportplus.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class ProjectControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    // Mock Data Setup
+    private Long mobileProjectId;
+    private Long mobileBugId;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository.deleteAll();
+        bugRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User qaUser = new User();
+        qaUser.setEmail("qa@example.com");
+        qaUser.setPassword("hashedPassword");
+        qaUser.setRole(Role.QA);
+        qaUser.setFullName("QA Tester");
+        qaUser = userRepository.save(qaUser);
+
+        Project mobile = new Project();
+        mobile.setProjectKey("MOB");
+        mobile.setName("Mobile app");
+        mobileProjectId = projectRepository.save(mobile).getId();
+
+        // Two bugs in the mobile project, one in the default project
+        mobileBugId = bugRepository.save(newBug("Crash on launch", mobileProjectId, Bug.Status.OPEN, qaUser)).getId();
+        bugRepository.save(newBug("Typo on login", mobileProjectId, Bug.Status.CLOSED, qaUser));
+        bugRepository.save(newBug("Default project bug", Project.DEFAULT_PROJECT_ID, Bug.Status.OPEN, qaUser));
+    }
+
+    private static Bug newBug(String title, Long projectId, Bug.Status status, User reporter) {
+        Bug bug = new Bug();
+        bug.setTitle(title);
+        bug.setDescription(title);
+        bug.setProjectId(projectId);
+        bug.setStatus(status);
+        bug.setPriority(Bug.Priority.MEDIUM);
+        bug.setReporter(reporter);
+        return bug;
+    }
+
+    /**
+     * Test case for GET /api/v1/projects/{projectId}/stats
+     * Should count only the project's bugs
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getProjectStats() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{projectId}/stats", mobileProjectId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBugs").value(2))
+                .andExpect(jsonPath("$.byStatus.OPEN").value(1))
+                .andExpect(jsonPath("$.byStatus.CLOSED").value(1));
+    }
+
+    /**
+     * Test case for GET /api/v1/projects/{projectId}/bugs/{bugId}
+     * Should return 404 when the bug belongs to another project
+     */
+    @Test
+    @WithMockUser(username = "qa@example.com", roles = "QA")
+    void getProjectBug_WrongProject_NotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{projectId}/bugs/{bugId}", mobileProjectId, mobileBugId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value(mobileProjectId));
+
+        mockMvc.perform(get("/api/v1/projects/{projectId}/bugs/{bugId}", Project.DEFAULT_PROJECT_ID, mobileBugId))
+                .andExpect(status().isNotFound());
+    }
+}
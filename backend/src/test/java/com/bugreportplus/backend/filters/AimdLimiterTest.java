@@ -0,0 +1,107 @@
+package com.bugreportplus.backend.filters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+public class AimdLimiterTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Should admit requests up to the limit and reject the rest until one is released
+     */
+    @Test
+    void tryAcquire_RejectsAboveLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, TARGET, 0.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(FAST, false, 0);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    /**
+     * Should grow the limit by about one per limit's worth of fast requests while it is in use
+     */
+    @Test
+    void release_FastRequestsIncreaseLimit() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, TARGET, 0.5);
+
+        // Two in flight uses half of 4 but not of 5, so growth stops once the limit reaches 5
+        for(int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, false, 0);
+            limiter.release(FAST, false, 0);
+        }
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    /**
+     * Should keep the limit when fast requests leave most of it unused
+     */
+    @Test
+    void release_IdleServiceKeepsLimit() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, TARGET, 0.5);
+
+        for(int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false, 0);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    /**
+     * Should shrink the limit on slow or failed requests at most once per latency target,
+     * never below the minimum
+     */
+    @Test
+    void release_SlowRequestsDecreaseLimit() {
+        AimdLimiter limiter = new AimdLimiter(8, 3, 10, TARGET, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false, 0);
+        assertEquals(4, limiter.getLimit());
+
+        // Same burst: no further decrease within one target interval
+        limiter.tryAcquire();
+        limiter.release(SLOW, false, TARGET / 2);
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true, TARGET);
+        assertEquals(3, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false, 2 * TARGET);
+        assertEquals(3, limiter.getLimit());
+    }
+
+    /**
+     * Should never grow past the maximum limit
+     */
+    @Test
+    void release_CapsAtMaxLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 2, TARGET, 0.5);
+
+        for(int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, false, 0);
+            limiter.release(FAST, false, 0);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+}
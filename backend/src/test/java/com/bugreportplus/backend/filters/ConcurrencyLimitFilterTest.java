@@ -0,0 +1,61 @@
+package com.bugreportplus.backend.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimitFilterTest {
+
+    private static ConcurrencyLimitFilter newFilter() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setRead(new ConcurrencyLimitProperties.Limit(2, 1, 2, Duration.ofSeconds(10)));
+        return new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Should shed bulk requests while reads are above the yield utilization, and serve them otherwise
+     */
+    @Test
+    void doFilter_BulkYieldsToBusyReads() throws Exception {
+        ConcurrencyLimitFilter filter = newFilter();
+        AtomicInteger bulkStatus = new AtomicInteger();
+
+        MockHttpServletResponse idleBulk = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/sync"), idleBulk, (req, res) -> { });
+        assertEquals(200, idleBulk.getStatus());
+
+        // Two reads in flight fill the read limit of 2; the sync request arrives while they run
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/bugs/1"), new MockHttpServletResponse(),
+                (outerReq, outerRes) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/bugs/2"), new MockHttpServletResponse(),
+                        (innerReq, innerRes) -> {
+                            MockHttpServletResponse bulk = new MockHttpServletResponse();
+                            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/sync"), bulk, (req, res) -> { });
+                            bulkStatus.set(bulk.getStatus());
+                        }));
+
+        assertEquals(503, bulkStatus.get());
+    }
+
+    /**
+     * Should shed reads over the read limit with 503 and a Retry-After header
+     */
+    @Test
+    void doFilter_ShedsReadsOverLimit() throws Exception {
+        ConcurrencyLimitFilter filter = newFilter();
+        MockHttpServletResponse third = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/bugs/1"), new MockHttpServletResponse(),
+                (outerReq, outerRes) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/bugs/2"), new MockHttpServletResponse(),
+                        (innerReq, innerRes) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/bugs/3"), third, (req, res) -> { })));
+
+        assertEquals(503, third.getStatus());
+        assertEquals("1", third.getHeader("Retry-After"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.bugreportplus.backend.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Runs against the create-comment rule in application.properties: 30 per minute by default, 120 for ADMIN.
+ * Empty comments are rejected by the controller with 400, after the filter has taken a token.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RateLimitFilterTest {
+
+    private static final int DEFAULT_CAPACITY = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockHttpServletResponse postEmptyComment() throws Exception {
+        return mockMvc.perform(post("/api/v1/bugs/{bugId}/comments", 1L).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"\"}"))
+                .andReturn().getResponse();
+    }
+
+    private double throttled(String role) {
+        Counter counter = meterRegistry.find("bugreport.rate_limit.throttled")
+                .tags("rule", "create-comment", "role", role)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * Should let a user through up to the rule's capacity, then answer 429 with Retry-After
+     * and count the throttled request
+     */
+    @Test
+    @WithMockUser(username = "rate-limited@example.com", roles = "USER")
+    void doFilter_ThrottlesAboveCapacity() throws Exception {
+        double throttledBefore = throttled("default");
+
+        for(int i = 0; i < DEFAULT_CAPACITY; i++) {
+            assertEquals(400, postEmptyComment().getStatus());
+        }
+        MockHttpServletResponse throttledResponse = postEmptyComment();
+
+        assertEquals(429, throttledResponse.getStatus());
+        // 30 per minute: the next token is at most 2 seconds away
+        long retryAfter = Long.parseLong(throttledResponse.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter >= 1 && retryAfter <= 2, "Retry-After " + retryAfter);
+        assertTrue(throttledResponse.getContentAsString().contains("\"retryAfterSeconds\":" + retryAfter));
+        assertEquals(throttledBefore + 1, throttled("default"));
+    }
+
+    /**
+     * Should apply the role override instead of the default limit for users holding the role
+     */
+    @Test
+    @WithMockUser(username = "rate-limited-admin@example.com", roles = "ADMIN")
+    void doFilter_RoleOverrideRaisesLimit() throws Exception {
+        double throttledBefore = throttled("ADMIN");
+
+        for(int i = 0; i <= DEFAULT_CAPACITY; i++) {
+            assertNotEquals(429, postEmptyComment().getStatus());
+        }
+
+        assertEquals(throttledBefore, throttled("ADMIN"));
+    }
+}
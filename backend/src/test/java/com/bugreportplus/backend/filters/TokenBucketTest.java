@@ -0,0 +1,73 @@
+package com.bugreportplus.backend.filters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Should allow a burst up to capacity, then report the wait until the next token
+     */
+    @Test
+    void tryConsume_AllowsBurstThenThrottles() {
+        TokenBucket bucket = new TokenBucket(3, 60, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+
+        // 60 per minute -> one token per second
+        long waitNanos = bucket.tryConsume(0);
+        assertTrue(waitNanos > 0 && waitNanos <= SECOND);
+    }
+
+    /**
+     * Should refill tokens over time, never above capacity
+     */
+    @Test
+    void tryConsume_RefillsUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 60, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertEquals(0, bucket.tryConsume(SECOND));
+
+        // A long pause refills to capacity (2), not more
+        long later = 100 * SECOND;
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(0, bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later) > 0);
+    }
+
+    /**
+     * Should only be evictable when idle long enough and full again
+     */
+    @Test
+    void isEvictable_OnlyWhenIdleAndFull() {
+        TokenBucket bucket = new TokenBucket(10, 60, 0);
+        for(int i = 0; i < 10; i++) {
+            bucket.tryConsume(0);
+        }
+
+        assertFalse(bucket.isEvictable(5 * SECOND, SECOND));
+        assertTrue(bucket.isEvictable(20 * SECOND, SECOND));
+        assertFalse(bucket.isEvictable(20 * SECOND, 60 * SECOND));
+    }
+
+    /**
+     * Should refuse a bucket that could never refill or never hold a token
+     */
+    @Test
+    void constructor_RejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(3, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 60, 0));
+    }
+}
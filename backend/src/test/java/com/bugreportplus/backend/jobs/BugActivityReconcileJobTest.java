@@ -0,0 +1,106 @@
+package com.bugreportplus.backend.jobs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BugActivityReconcileJobTest {
+
+    private static final Instant LONG_AGO = Instant.parse("2020-01-01T00:00:00Z");
+
+    @Autowired
+    private BugActivityReconcileJob reconcileJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long bugId;
+
+    @BeforeEach
+    void setUp() {
+        User reporter = new User();
+        reporter.setEmail("qa@example.com");
+        reporter.setPassword("hashedPassword");
+        reporter.setRole(Role.QA);
+        reporter.setFullName("QA Tester");
+        reporter = userRepository.save(reporter);
+
+        Bug bug = new Bug();
+        bug.setTitle("Drifted bug");
+        bug.setDescription("Counters edited behind the application's back");
+        bug.setStatus(Bug.Status.OPEN);
+        bug.setPriority(Bug.Priority.LOW);
+        bug.setReporter(reporter);
+        bug = bugRepository.save(bug);
+        bugId = bug.getId();
+
+        // Comments written without going through CommentService, so the counters are not maintained
+        commentRepository.save(new Comment("First", bug, reporter));
+        commentRepository.save(new Comment("Second", bug, reporter));
+        entityManager.flush();
+
+        jdbcTemplate.update("UPDATE bugs SET comment_count = 0, updated_at = ?, last_activity_at = ? WHERE id = ?",
+                Timestamp.from(LONG_AGO), Timestamp.from(LONG_AGO), bugId);
+    }
+
+    /**
+     * Should recount comments and move a stale last_activity_at up to the latest comment
+     */
+    @Test
+    void reconcile_RepairsStaleCounters() {
+        reconcileJob.reconcile();
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT comment_count FROM bugs WHERE id = ?", Integer.class, bugId));
+
+        Timestamp lastActivity = jdbcTemplate.queryForObject("SELECT last_activity_at FROM bugs WHERE id = ?", Timestamp.class, bugId);
+        Timestamp latestComment = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM comments WHERE bug_id = ?", Timestamp.class, bugId);
+        assertTrue(lastActivity.toInstant().isAfter(LONG_AGO));
+        assertEquals(latestComment, lastActivity);
+    }
+
+    /**
+     * Should keep a last_activity_at that is already ahead of every update and comment
+     */
+    @Test
+    void reconcile_KeepsNewerActivity() {
+        Instant future = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(3600);
+        jdbcTemplate.update("UPDATE bugs SET comment_count = 2, last_activity_at = ? WHERE id = ?", Timestamp.from(future), bugId);
+
+        reconcileJob.reconcile();
+
+        Timestamp lastActivity = jdbcTemplate.queryForObject("SELECT last_activity_at FROM bugs WHERE id = ?", Timestamp.class, bugId);
+        assertEquals(Timestamp.from(future), lastActivity);
+    }
+}
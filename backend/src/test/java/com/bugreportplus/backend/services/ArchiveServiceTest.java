@@ -0,0 +1,122 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ArchiveServiceTest {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private BugService bugService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private DeletedRecordRepository deletedRecordRepository;
+
+    @Autowired
+    private BugReadRepository bugReadRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new User();
+        reporter.setEmail("qa@example.com");
+        reporter.setPassword("hashedPassword");
+        reporter.setRole(Role.QA);
+        reporter.setFullName("QA Tester");
+        reporter = userRepository.save(reporter);
+    }
+
+    private Bug saveBug(String title, Bug.Status status) {
+        Bug bug = new Bug();
+        bug.setTitle(title);
+        bug.setDescription(title);
+        bug.setStatus(status);
+        bug.setPriority(Bug.Priority.LOW);
+        bug.setReporter(reporter);
+        return bugRepository.save(bug);
+    }
+
+    /**
+     * drop its read markers, and keep serving both through the regular and batch read paths
+     * drop its read markers, and keep serving both through the regular read paths
+     */
+    @Test
+    void archiveChunk_MovesBugAndFallsThrough() {
+        Bug closed = saveBug("Closed bug", Bug.Status.CLOSED);
+        commentRepository.save(new Comment("Fixed in 1.2", closed, reporter));
+        bugReadRepository.save(new BugRead(reporter, closed, Instant.now()));
+        entityManager.flush();
+
+        List<Long> candidates = archiveService.findArchivableBugIds(Instant.now().plusSeconds(60), 10);
+        assertEquals(List.of(closed.getId()), candidates);
+        assertEquals(1, archiveService.archiveChunk(candidates));
+        entityManager.clear();
+
+        assertFalse(bugRepository.existsById(closed.getId()));
+        assertTrue(bugReadRepository.findAll().stream().noneMatch(read -> read.getBug().getId().equals(closed.getId())));
+        assertTrue(deletedRecordRepository.findAll().stream()
+                .anyMatch(tombstone -> tombstone.getEntityType() == DeletedRecord.EntityType.BUG
+                        && tombstone.getEntityId().equals(closed.getId())));
+
+        assertEquals("Closed bug", bugService.findBugById(closed.getId()).orElseThrow().getTitle());
+        List<Comment> comments = commentService.getCommentByBugId(closed.getId());
+        assertEquals(1, comments.size());
+        assertEquals("Fixed in 1.2", comments.get(0).getContent());
+
+        List<Comment> latest = commentService.getLatestCommentsByBugIds(List.of(closed.getId()), 5).get(closed.getId());
+        assertEquals(1, latest.size());
+        assertEquals("Fixed in 1.2", latest.get(0).getContent());
+        assertEquals(reporter.getId(), latest.get(0).getAuthor().getId());
+    }
+
+    /**
+     * Should leave open bugs in the hot table, and return no comments for a hot bug without any
+     */
+    @Test
+    void archiveChunk_SkipsOpenBugs() {
+        Bug open = saveBug("Open bug", Bug.Status.OPEN);
+        entityManager.flush();
+
+        assertTrue(archiveService.findArchivableBugIds(Instant.now().plusSeconds(60), 10).isEmpty());
+        assertEquals(0, archiveService.archiveChunk(List.of(open.getId())));
+        assertTrue(commentService.getCommentByBugId(open.getId()).isEmpty());
+    }
+}
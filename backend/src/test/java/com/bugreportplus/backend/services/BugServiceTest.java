@@ -0,0 +1,109 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "qa@example.com", roles = "QA")
+public class BugServiceTest {
+
+    @Autowired
+    private BugService bugService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private BugEventRepository bugEventRepository;
+
+    private Long bugId;
+
+    @BeforeEach
+    void setUp() {
+        User reporter = new User();
+        reporter.setEmail("qa@example.com");
+        reporter.setPassword("hashedPassword");
+        reporter.setRole(Role.QA);
+        reporter.setFullName("QA Tester");
+        reporter = userRepository.save(reporter);
+
+        Bug bug = new Bug();
+        bug.setTitle("Flaky login");
+        bug.setDescription("Login fails intermittently");
+        bug.setStatus(Bug.Status.OPEN);
+        bug.setPriority(Bug.Priority.HIGH);
+        bug.setReporter(reporter);
+        bug.setCreatedAt(Instant.now().minus(Duration.ofHours(2)));
+        bugId = bugRepository.save(bug).getId();
+    }
+
+    private BugEvent latest(BugEvent.EventType eventType) {
+        return bugEventRepository.findFirstByBugIdAndEventTypeOrderByIdDesc(bugId, eventType).orElseThrow();
+    }
+
+    private static void assertAbout(long expectedSeconds, Long actualSeconds) {
+        assertTrue(Math.abs(actualSeconds - expectedSeconds) <= 5, "expected about " + expectedSeconds + "s, got " + actualSeconds);
+    }
+
+    /**
+     * Should emit STATUS_CHANGED for a move between open statuses and RESOLVED, timed from creation,
+     * when the bug is resolved
+     */
+    @Test
+    void updateBugStatus_EmitsResolvedFromCreation() {
+        bugService.updateBugStatus(bugId, Bug.Status.IN_PROGRESS);
+        BugEvent changed = latest(BugEvent.EventType.STATUS_CHANGED);
+        assertEquals(Bug.Status.IN_PROGRESS, changed.getStatus());
+        assertNull(changed.getResolutionSeconds());
+
+        bugService.updateBugStatus(bugId, Bug.Status.RESOLVED);
+        BugEvent resolved = latest(BugEvent.EventType.RESOLVED);
+        assertEquals(Bug.Status.RESOLVED, resolved.getStatus());
+        assertEquals(Bug.Priority.HIGH, resolved.getPriority());
+        assertAbout(Duration.ofHours(2).toSeconds(), resolved.getResolutionSeconds());
+
+        // RESOLVED to CLOSED is not a second resolution
+        bugService.updateBugStatus(bugId, Bug.Status.CLOSED);
+        assertEquals(resolved.getId(), latest(BugEvent.EventType.RESOLVED).getId());
+        assertEquals(Bug.Status.CLOSED, latest(BugEvent.EventType.STATUS_CHANGED).getStatus());
+    }
+
+    /**
+     * Should emit REOPENED when a resolved bug is opened again and time the next resolution from the reopen
+     */
+    @Test
+    void updateBugStatus_TimesResolutionFromLatestReopen() {
+        bugService.updateBugStatus(bugId, Bug.Status.RESOLVED);
+        bugService.updateBugStatus(bugId, Bug.Status.OPEN);
+
+        BugEvent reopened = latest(BugEvent.EventType.REOPENED);
+        assertEquals(Bug.Status.OPEN, reopened.getStatus());
+        reopened.setOccurredAt(Instant.now().minus(Duration.ofMinutes(30)));
+        bugEventRepository.save(reopened);
+
+        bugService.updateBugStatus(bugId, Bug.Status.CLOSED);
+
+        assertAbout(Duration.ofMinutes(30).toSeconds(), latest(BugEvent.EventType.RESOLVED).getResolutionSeconds());
+    }
+}
@@ -0,0 +1,90 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long authorId;
+    private Long bugId;
+
+    @BeforeEach
+    void setUp() {
+        User author = new User();
+        author.setEmail("qa@example.com");
+        author.setPassword("hashedPassword");
+        author.setRole(Role.QA);
+        author.setFullName("QA Tester");
+        author = userRepository.save(author);
+        authorId = author.getId();
+
+        Bug bug = new Bug();
+        bug.setTitle("Counter bug");
+        bug.setDescription("Comment counter maintenance");
+        bug.setStatus(Bug.Status.OPEN);
+        bug.setPriority(Bug.Priority.MEDIUM);
+        bug.setReporter(author);
+        bug.setCommentCount(0);
+        bugId = bugRepository.save(bug).getId();
+    }
+
+    /**
+     * Should bump comment_count and last_activity_at on post and lower the count on delete
+     */
+    @Test
+    void commentCounter_FollowsPostsAndDeletes() {
+        commentService.createComment(bugId, authorId, "First");
+        Comment second = commentService.createComment(bugId, authorId, "Second");
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT comment_count FROM bugs WHERE id = ?", Integer.class, bugId));
+        Timestamp lastActivity = jdbcTemplate.queryForObject("SELECT last_activity_at FROM bugs WHERE id = ?", Timestamp.class, bugId);
+        assertTrue(Duration.between(second.getCreatedAt(), lastActivity.toInstant()).abs().toMillis() < 1);
+
+        commentService.deleteComment(second.getId());
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT comment_count FROM bugs WHERE id = ?", Integer.class, bugId));
+    }
+
+    /**
+     * Should never drive comment_count below zero
+     */
+    @Test
+    void commentCounter_NeverNegative() {
+        Comment comment = commentService.createComment(bugId, authorId, "Only comment");
+        jdbcTemplate.update("UPDATE bugs SET comment_count = 0 WHERE id = ?", bugId);
+
+        commentService.deleteComment(comment.getId());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT comment_count FROM bugs WHERE id = ?", Integer.class, bugId));
+    }
+}
@@ -0,0 +1,140 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.dto.TrendPoint;
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.repositories.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class RollupServiceTest {
+
+    private static final Instant DAY = Instant.parse("2026-03-02T00:00:00Z");
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private BugEventRepository bugEventRepository;
+
+    @Autowired
+    private BugRollupRepository bugRollupRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Start from the events of this test only
+        rollupService.processChunk(1000, Duration.ZERO);
+        bugRollupRepository.deleteAll();
+    }
+
+    private void saveEvent(Long bugId, BugEvent.EventType type, Bug.Status status, int hour, Long resolutionSeconds) {
+        BugEvent event = new BugEvent();
+        event.setBugId(bugId);
+        event.setProjectId(Project.DEFAULT_PROJECT_ID);
+        event.setEventType(type);
+        event.setStatus(status);
+        event.setPriority(Bug.Priority.HIGH);
+        event.setOccurredAt(DAY.plus(Duration.ofHours(hour)));
+        event.setResolutionSeconds(resolutionSeconds);
+        bugEventRepository.save(event);
+    }
+
+    private List<TrendPoint> dailyTrend(Bug.Status status) {
+        return bugRollupRepository.findTrend(rollupService.activeGeneration(), BugRollup.Granularity.DAY,
+                DAY, DAY.plus(Duration.ofDays(1)), null, status, null, null);
+    }
+
+    /**
+     * Should add a later chunk's counts to the bucket row an earlier chunk created
+     */
+    @Test
+    void processChunk_IncrementsExistingBucket() {
+        saveEvent(1L, BugEvent.EventType.CREATED, Bug.Status.OPEN, 9, null);
+        assertEquals(1, rollupService.processChunk(1000, Duration.ZERO));
+
+        saveEvent(2L, BugEvent.EventType.CREATED, Bug.Status.OPEN, 10, null);
+        saveEvent(3L, BugEvent.EventType.CREATED, Bug.Status.OPEN, 11, null);
+        assertEquals(2, rollupService.processChunk(1000, Duration.ZERO));
+
+        List<BugRollup> daily = bugRollupRepository.findAll().stream()
+                .filter(rollup -> rollup.getGranularity() == BugRollup.Granularity.DAY)
+                .toList();
+        assertEquals(1, daily.size());
+        assertEquals(3L, daily.get(0).getCreatedCount());
+        assertEquals(3, bugRollupRepository.findAll().size() - daily.size());
+    }
+
+    /**
+     * Should count every status change under the status moved to, and count each resolution
+     * of a reopened bug once with its own resolution time
+     */
+    @Test
+    void processChunk_CountsTransitionsAndReopens() {
+        saveEvent(1L, BugEvent.EventType.CREATED, Bug.Status.OPEN, 9, null);
+        saveEvent(1L, BugEvent.EventType.STATUS_CHANGED, Bug.Status.IN_PROGRESS, 10, null);
+        saveEvent(1L, BugEvent.EventType.RESOLVED, Bug.Status.RESOLVED, 11, 7200L);
+        saveEvent(1L, BugEvent.EventType.REOPENED, Bug.Status.OPEN, 12, null);
+        saveEvent(1L, BugEvent.EventType.RESOLVED, Bug.Status.RESOLVED, 13, 3600L);
+        rollupService.processChunk(1000, Duration.ZERO);
+
+        TrendPoint all = dailyTrend(null).get(0);
+        assertEquals(1L, all.created());
+        assertEquals(2L, all.resolved());
+        assertEquals(1L, all.reopened());
+        assertEquals(4L, all.transitions());
+        assertEquals(5400.0, all.meanResolutionSeconds());
+
+        assertEquals(1L, dailyTrend(Bug.Status.IN_PROGRESS).get(0).transitions());
+        assertEquals(2L, dailyTrend(Bug.Status.RESOLVED).get(0).transitions());
+        TrendPoint open = dailyTrend(Bug.Status.OPEN).get(0);
+        assertEquals(1L, open.created());
+        assertEquals(1L, open.reopened());
+    }
+
+    /**
+     * Should keep serving the complete current generation while a rebuild fills the next one,
+     * switch once the rebuild has caught up, and purge the retired rows afterwards
+     */
+    @Test
+    void rebuild_ServesCurrentGenerationUntilCaughtUp() {
+        saveEvent(1L, BugEvent.EventType.CREATED, Bug.Status.OPEN, 9, null);
+        saveEvent(2L, BugEvent.EventType.CREATED, Bug.Status.OPEN, 10, null);
+        saveEvent(1L, BugEvent.EventType.RESOLVED, Bug.Status.RESOLVED, 11, 7200L);
+        rollupService.processChunk(1000, Duration.ZERO);
+        long served = rollupService.activeGeneration();
+
+        rollupService.requestRebuild();
+        assertTrue(rollupService.startRequestedRebuild());
+        // One event per chunk; the chunk that finds nothing left switches generations
+        while(rollupService.rebuildChunk(1) == 1) {
+            assertEquals(served, rollupService.activeGeneration());
+            TrendPoint during = dailyTrend(null).get(0);
+            assertEquals(2L, during.created());
+            assertEquals(1L, during.resolved());
+        }
+
+        assertEquals(served + 1, rollupService.activeGeneration());
+        TrendPoint rebuilt = dailyTrend(null).get(0);
+        assertEquals(2L, rebuilt.created());
+        assertEquals(1L, rebuilt.resolved());
+        assertEquals(7200.0, rebuilt.meanResolutionSeconds());
+
+        // Hours 9, 10 and 11 plus the day's OPEN and RESOLVED rows of the retired generation
+        assertEquals(5, rollupService.purgeRetiredGenerations());
+        assertEquals(0, rollupService.rebuildChunk(1));
+    }
+}
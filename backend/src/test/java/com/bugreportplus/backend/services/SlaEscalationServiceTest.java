@@ -0,0 +1,168 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class SlaEscalationServiceTest {
+
+    @Autowired
+    private SlaEscalationService slaEscalationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User reporter;
+    private Instant cutoff;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new User();
+        reporter.setEmail("qa@example.com");
+        reporter.setPassword("hashedPassword");
+        reporter.setRole(Role.QA);
+        reporter.setFullName("QA Tester");
+        reporter = userRepository.save(reporter);
+        cutoff = Instant.now().minus(Duration.ofDays(7));
+    }
+
+    private Bug saveBug(Bug.Priority priority, Duration untouchedFor) {
+        Bug bug = new Bug();
+        bug.setTitle(priority + " bug");
+        bug.setDescription("Waiting for triage");
+        bug.setStatus(Bug.Status.OPEN);
+        bug.setPriority(priority);
+        bug.setReporter(reporter);
+        bug.setUpdatedAt(Instant.now().minus(untouchedFor).truncatedTo(ChronoUnit.SECONDS));
+        return bugRepository.save(bug);
+    }
+
+    /**
+     * Should move stale bugs up one priority and leave recently touched ones alone,
+     * serving the new priority through the entity cache afterwards
+     */
+    @Test
+    void escalateChunk_EscalatesStaleBugs() {
+        Bug stale = saveBug(Bug.Priority.LOW, Duration.ofDays(10));
+        Bug fresh = saveBug(Bug.Priority.LOW, Duration.ofDays(1));
+        entityManager.flush();
+        entityManager.clear();
+        // Warm the second-level cache with the pre-escalation state
+        bugRepository.findById(stale.getId()).orElseThrow();
+        entityManager.clear();
+
+        SlaEscalationService.ChunkResult result = slaEscalationService.escalateChunk(Bug.Priority.LOW, cutoff, 10);
+        entityManager.clear();
+
+        assertEquals(1, result.rowsProcessed());
+        assertFalse(result.hasMore());
+        Bug escalated = bugRepository.findById(stale.getId()).orElseThrow();
+        assertEquals(Bug.Priority.MEDIUM, escalated.getPriority());
+        assertNotNull(escalated.getEscalatedAt());
+        assertEquals(Bug.Priority.LOW, bugRepository.findById(fresh.getId()).orElseThrow().getPriority());
+    }
+
+    /**
+     * Should only flag stale CRITICAL bugs, keep their updated_at, and not flag them again
+     */
+    @Test
+    void escalateChunk_FlagsCriticalOnce() {
+        Bug critical = saveBug(Bug.Priority.CRITICAL, Duration.ofDays(10));
+        Instant updatedAt = critical.getUpdatedAt();
+        entityManager.flush();
+
+        assertEquals(1, slaEscalationService.escalateChunk(Bug.Priority.CRITICAL, cutoff, 10).rowsProcessed());
+        entityManager.clear();
+
+        Bug flagged = bugRepository.findById(critical.getId()).orElseThrow();
+        assertEquals(Bug.Priority.CRITICAL, flagged.getPriority());
+        assertEquals(updatedAt, flagged.getUpdatedAt());
+        assertNotNull(flagged.getEscalatedAt());
+
+        assertEquals(0, slaEscalationService.escalateChunk(Bug.Priority.CRITICAL, cutoff, 10).rowsProcessed());
+    }
+
+    /**
+     * Should flag a bug escalated from HIGH to CRITICAL once it stays untouched as CRITICAL,
+     * although escalation set escalated_at and updated_at to the same instant
+     */
+    @Test
+    void escalateChunk_FlagsBugEscalatedToCritical() {
+        Bug high = saveBug(Bug.Priority.HIGH, Duration.ofDays(10));
+        entityManager.flush();
+
+        assertEquals(1, slaEscalationService.escalateChunk(Bug.Priority.HIGH, cutoff, 10).rowsProcessed());
+        entityManager.clear();
+        Bug escalated = bugRepository.findById(high.getId()).orElseThrow();
+        assertEquals(Bug.Priority.CRITICAL, escalated.getPriority());
+        assertEquals(escalated.getUpdatedAt(), escalated.getEscalatedAt());
+
+        // Later, the CRITICAL SLA has passed without a touch
+        Instant criticalCutoff = Instant.now().plusSeconds(1);
+        assertEquals(1, slaEscalationService.escalateChunk(Bug.Priority.CRITICAL, criticalCutoff, 10).rowsProcessed());
+        entityManager.clear();
+        Bug flagged = bugRepository.findById(high.getId()).orElseThrow();
+        assertTrue(flagged.getEscalatedAt().isAfter(flagged.getUpdatedAt()));
+
+        assertEquals(0, slaEscalationService.escalateChunk(Bug.Priority.CRITICAL, criticalCutoff, 10).rowsProcessed());
+    }
+
+    /**
+     * Should checkpoint after a full chunk, resume after the last processed bug, and clear the
+     * checkpoint once the pass completes
+     */
+    @Test
+    void escalateChunk_ResumesFromKeysetCheckpoint() {
+        Bug oldest = saveBug(Bug.Priority.HIGH, Duration.ofDays(30));
+        Bug middle = saveBug(Bug.Priority.HIGH, Duration.ofDays(20));
+        Bug newest = saveBug(Bug.Priority.HIGH, Duration.ofDays(10));
+        entityManager.flush();
+
+        SlaEscalationService.ChunkResult first = slaEscalationService.escalateChunk(Bug.Priority.HIGH, cutoff, 2);
+        assertEquals(2, first.rowsProcessed());
+        assertTrue(first.hasMore());
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById("sla-escalation:HIGH").orElseThrow();
+        assertEquals(middle.getUpdatedAt() + "|" + middle.getId(), checkpoint.getCheckpointValue());
+
+        SlaEscalationService.ChunkResult second = slaEscalationService.escalateChunk(Bug.Priority.HIGH, cutoff, 2);
+        assertEquals(1, second.rowsProcessed());
+        assertFalse(second.hasMore());
+        assertNull(jobCheckpointRepository.findById("sla-escalation:HIGH").orElse(null));
+        entityManager.clear();
+
+        for(Bug bug : new Bug[] {oldest, middle, newest}) {
+            assertEquals(Bug.Priority.CRITICAL, bugRepository.findById(bug.getId()).orElseThrow().getPriority());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.dto.SyncBug;
+import com.bugreportplus.backend.dto.SyncResponse;
+import com.bugreportplus.backend.models.*;
+import com.bugreportplus.backend.models.User.Role;
+import com.bugreportplus.backend.repositories.*;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "qa@example.com", roles = "QA")
+public class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BugRepository bugRepository;
+
+    @Autowired
+    private DeletedRecordRepository deletedRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new User();
+        reporter.setEmail("qa@example.com");
+        reporter.setPassword("hashedPassword");
+        reporter.setRole(Role.QA);
+        reporter.setFullName("QA Tester");
+        reporter = userRepository.save(reporter);
+    }
+
+    private Bug saveBug(String title) {
+        Bug bug = new Bug();
+        bug.setTitle(title);
+        bug.setDescription(title);
+        bug.setStatus(Bug.Status.OPEN);
+        bug.setPriority(Bug.Priority.LOW);
+        bug.setReporter(reporter);
+        return bugRepository.save(bug);
+    }
+
+    /**
+     * Should return a watermark that trails the current time by the configured lag
+     */
+    @Test
+    void changesSince_WatermarkTrailsNow() {
+        Instant before = Instant.now();
+        SyncResponse response = syncService.changesSince(before.minus(Duration.ofMinutes(1)), null, 500);
+        Instant after = Instant.now();
+
+        assertFalse(response.fullResync());
+        assertFalse(response.watermark().isBefore(before.minusSeconds(5)));
+        assertFalse(response.watermark().isAfter(after.minusSeconds(5)));
+    }
+
+    /**
+     * Should fall back to a full resync without tombstones once the watermark is older than the
+     * retention, and return only newer tombstones for a recent watermark
+     */
+    @Test
+    void changesSince_TombstoneCutoff() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        deletedRecordRepository.save(new DeletedRecord(DeletedRecord.EntityType.BUG, 1001L, 1001L, now.minus(Duration.ofHours(2))));
+        deletedRecordRepository.save(new DeletedRecord(DeletedRecord.EntityType.BUG, 1002L, 1002L, now.minus(Duration.ofMinutes(10))));
+        entityManager.flush();
+
+        SyncResponse expired = syncService.changesSince(now.minus(Duration.ofDays(31)), null, 500);
+        assertTrue(expired.fullResync());
+        assertTrue(expired.deleted().isEmpty());
+
+        SyncResponse recent = syncService.changesSince(now.minus(Duration.ofHours(1)), null, 500);
+        assertFalse(recent.fullResync());
+        assertEquals(List.of(1002L), recent.deleted().stream().map(DeletedRecord::getEntityId).toList());
+    }
+
+    /**
+     * Should page a full resync by id, keeping the watermark from the first page and ending with a null cursor
+     */
+    @Test
+    void changesSince_PagesFullResync() {
+        List<Long> expected = List.of(saveBug("First").getId(), saveBug("Second").getId(), saveBug("Third").getId());
+        entityManager.flush();
+
+        SyncResponse first = syncService.changesSince(null, null, 2);
+        assertTrue(first.fullResync());
+        assertNotNull(first.nextCursor());
+
+        SyncResponse second = syncService.changesSince(null, first.nextCursor(), 2);
+        assertTrue(second.fullResync());
+        assertNull(second.nextCursor());
+        assertEquals(first.watermark(), second.watermark());
+
+        List<Long> synced = new ArrayList<>();
+        first.bugs().stream().map(SyncBug::id).forEach(synced::add);
+        second.bugs().stream().map(SyncBug::id).forEach(synced::add);
+        assertEquals(expected, synced);
+    }
+
+    /**
+     * Should reject a cursor that was not issued by the server
+     */
+    @Test
+    void changesSince_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> syncService.changesSince(null, "not-a-cursor", 2));
+    }
+}
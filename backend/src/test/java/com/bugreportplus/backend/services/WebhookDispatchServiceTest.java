@@ -0,0 +1,165 @@
+package com.bugreportplus.backend.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bugreportplus.backend.models.OutboxEvent;
+import com.bugreportplus.backend.repositories.OutboxEventRepository;
+import com.bugreportplus.backend.webhooks.WebhookClient;
+import com.bugreportplus.backend.webhooks.WebhookProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class WebhookDispatchServiceTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private HttpServer server;
+    private final List<String> deliveries = new CopyOnWriteArrayList<>();
+    private WebhookProperties properties;
+    private OutboxService outboxService;
+    private WebhookDispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            deliveries.add(exchange.getRequestHeaders().getFirst(WebhookClient.DELIVERY_HEADER));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+
+        properties = new WebhookProperties();
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxAttempts(2);
+        properties.getEndpoints().add(endpoint("ci", "/ok"));
+        properties.getEndpoints().add(endpoint("flaky", "/fail"));
+
+        outboxService = new OutboxService(outboxEventRepository, properties, objectMapper);
+        dispatchService = new WebhookDispatchService(outboxEventRepository,
+                new WebhookClient(Duration.ofSeconds(1), Duration.ofSeconds(2)), properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private WebhookProperties.Endpoint endpoint(String name, String path) {
+        WebhookProperties.Endpoint endpoint = new WebhookProperties.Endpoint();
+        endpoint.setName(name);
+        endpoint.setUrl("http://127.0.0.1:" + server.getAddress().getPort() + path);
+        return endpoint;
+    }
+
+    private List<OutboxEvent> rowsFor(String endpointName) {
+        entityManager.clear();
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getEndpointName().equals(endpointName))
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .toList();
+    }
+
+    /**
+     * Should supersede an older pending event with the same coalesce key on enqueue,
+     * even one waiting for a retry outside the next batch, and deliver only the newest
+     */
+    @Test
+    void enqueue_SupersedesOlderPendingEvents() throws Exception {
+        outboxService.enqueue(OutboxService.BUG_STATUS_CHANGED, 1L, "bug.status_changed:1", Map.of("status", "IN_PROGRESS"));
+        OutboxEvent older = rowsFor("ci").get(0);
+        outboxEventRepository.scheduleRetry(older.getId(), 1, Instant.now().plus(Duration.ofMinutes(5)), "HTTP 503");
+
+        outboxService.enqueue(OutboxService.BUG_STATUS_CHANGED, 1L, "bug.status_changed:1", Map.of("status", "RESOLVED"));
+        outboxService.enqueue(OutboxService.BUG_STATUS_CHANGED, 2L, "bug.status_changed:2", Map.of("status", "CLOSED"));
+
+        List<OutboxEvent> ciRows = rowsFor("ci");
+        assertEquals(OutboxEvent.Status.SUPERSEDED, ciRows.get(0).getStatus());
+        assertEquals(OutboxEvent.Status.PENDING, ciRows.get(1).getStatus());
+        assertEquals(OutboxEvent.Status.PENDING, ciRows.get(2).getStatus());
+
+        dispatchService.dispatchBatch(Instant.now().plus(Duration.ofSeconds(30)));
+
+        assertEquals(Set.of(String.valueOf(ciRows.get(1).getId()), String.valueOf(ciRows.get(2).getId())),
+                Set.copyOf(deliveries));
+        assertTrue(rowsFor("ci").stream().skip(1).allMatch(event -> event.getStatus() == OutboxEvent.Status.SENT));
+    }
+
+    /**
+     * Should schedule a failed delivery for a jittered exponential backoff, then give up after max attempts
+     */
+    @Test
+    void dispatchBatch_BacksOffThenFails() throws Exception {
+        outboxService.enqueue(OutboxService.COMMENT_CREATED, 1L, null, Map.of("commentId", 7));
+        Instant beforeDispatch = Instant.now();
+
+        dispatchService.dispatchBatch(Instant.now().plus(Duration.ofSeconds(30)));
+
+        OutboxEvent retry = rowsFor("flaky").get(0);
+        assertEquals(OutboxEvent.Status.PENDING, retry.getStatus());
+        assertEquals(1, retry.getAttempts());
+        assertEquals("HTTP 503", retry.getLastError());
+        assertFalse(retry.getNextAttemptAt().isBefore(beforeDispatch.plus(Duration.ofSeconds(8))));
+        assertFalse(retry.getNextAttemptAt().isAfter(Instant.now().plus(Duration.ofSeconds(12))));
+
+        // Make the retry due and fail it again: the second attempt reaches maxAttempts
+        outboxEventRepository.scheduleRetry(retry.getId(), 1, Instant.now().minusSeconds(1), "HTTP 503");
+        dispatchService.dispatchBatch(Instant.now().plus(Duration.ofSeconds(30)));
+
+        OutboxEvent failed = rowsFor("flaky").get(0);
+        assertEquals(OutboxEvent.Status.FAILED, failed.getStatus());
+        assertEquals(2, failed.getAttempts());
+    }
+
+    /**
+     * Should start no delivery once the deadline has passed and leave the rows pending untouched
+     */
+    @Test
+    void dispatchBatch_StartsNothingAfterDeadline() throws Exception {
+        outboxService.enqueue(OutboxService.COMMENT_CREATED, 1L, null, Map.of("commentId", 7));
+
+        assertEquals(0, dispatchService.dispatchBatch(Instant.now().minusSeconds(1)));
+
+        assertTrue(deliveries.isEmpty());
+        for(OutboxEvent event : rowsFor("ci")) {
+            assertEquals(OutboxEvent.Status.PENDING, event.getStatus());
+            assertEquals(0, event.getAttempts());
+        }
+    }
+}
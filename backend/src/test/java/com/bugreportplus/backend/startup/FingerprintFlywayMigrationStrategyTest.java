@@ -0,0 +1,62 @@
+package com.bugreportplus.backend.startup;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class FingerprintFlywayMigrationStrategyTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Should let several nodes starting together all finish, leaving a single fingerprint row
+     */
+    @Test
+    void migrate_ConcurrentStartsWriteOneFingerprint() throws Exception {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load();
+        FingerprintFlywayMigrationStrategy strategy = new FingerprintFlywayMigrationStrategy();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS schema_fingerprint");
+
+        ExecutorService pods = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> starts = new ArrayList<>();
+            for(int i = 0; i < 4; i++) {
+                starts.add(pods.submit(() -> strategy.migrate(flyway)));
+            }
+            // Rethrows a failed start
+            for(Future<?> start : starts) {
+                start.get();
+            }
+        } finally {
+            pods.shutdownNow();
+        }
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_fingerprint", Integer.class));
+
+        // Unchanged scripts: the next start skips Flyway and keeps the row
+        strategy.migrate(flyway);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_fingerprint", Integer.class));
+    }
+}
@@ -0,0 +1,96 @@
+package com.bugreportplus.backend.webhooks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class WebhookClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedEvent = new AtomicReference<>();
+    private final AtomicReference<String> receivedDelivery = new AtomicReference<>();
+
+    private final WebhookClient client = new WebhookClient(Duration.ofSeconds(1), Duration.ofMillis(500));
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            receivedEvent.set(exchange.getRequestHeaders().getFirst(WebhookClient.EVENT_HEADER));
+            receivedDelivery.set(exchange.getRequestHeaders().getFirst(WebhookClient.DELIVERY_HEADER));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    /**
+     * Should POST the payload with event and delivery headers and report the 2xx status
+     */
+    @Test
+    void post_DeliversPayloadAndHeaders() {
+        int status = client.post(baseUrl + "/ok", "bug.assigned", 42L, "{\"type\":\"bug.assigned\"}").join();
+
+        assertEquals(204, status);
+        assertTrue(WebhookClient.isSuccess(status));
+        assertEquals("{\"type\":\"bug.assigned\"}", receivedBody.get());
+        assertEquals("bug.assigned", receivedEvent.get());
+        assertEquals("42", receivedDelivery.get());
+    }
+
+    /**
+     * Should surface non-2xx responses as a status for the dispatcher to retry
+     */
+    @Test
+    void post_ReturnsErrorStatus() {
+        int status = client.post(baseUrl + "/fail", "comment.created", 1L, "{}").join();
+
+        assertEquals(503, status);
+        assertFalse(WebhookClient.isSuccess(status));
+    }
+
+    /**
+     * Should fail the future when the endpoint does not answer within the request timeout
+     */
+    @Test
+    void post_TimesOut() {
+        assertThrows(CompletionException.class,
+                () -> client.post(baseUrl + "/slow", "bug.status_changed", 7L, "{}").join());
+    }
+}
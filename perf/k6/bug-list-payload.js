@@ -0,0 +1,39 @@
+// Compares payload size and latency of GET /api/v1/bugs full vs. compact vs. sparse views.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e USER=qa@example.com -e PASSWORD=secret perf/k6/bug-list-payload.js
+//
+// Results are reported as the list_bytes_* and list_duration_* trends.
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const AUTH = 'Basic ' + encoding.b64encode(`${__ENV.USER}:${__ENV.PASSWORD}`);
+
+const VIEWS = {
+  full: '/api/v1/bugs?view=full',
+  compact: '/api/v1/bugs',
+  sparse: '/api/v1/bugs?fields=id,title,status',
+};
+
+const bytes = {};
+const durations = {};
+for (const name of Object.keys(VIEWS)) {
+  bytes[name] = new Trend(`list_bytes_${name}`);
+  durations[name] = new Trend(`list_duration_${name}`, true);
+}
+
+export const options = {
+  vus: 10,
+  duration: '1m',
+};
+
+export default function () {
+  for (const [name, path] of Object.entries(VIEWS)) {
+    const res = http.get(`${BASE_URL}${path}`, { headers: { Authorization: AUTH } });
+    check(res, { [`${name} is 200`]: (r) => r.status === 200 });
+    bytes[name].add(res.body ? res.body.length : 0);
+    durations[name].add(res.timings.duration);
+  }
+}
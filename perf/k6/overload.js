@@ -0,0 +1,97 @@
+// Overload scenario for the adaptive concurrency limiter.
+//
+// Drives a rising arrival rate of cheap reads plus a steady stream of writes and bulk sync
+// calls. Run it twice against a slowed-down database, once with the limiter on and once with
+// --bugreport.concurrency-limit.enabled=false, and compare the read_latency p99 and the
+// shed (503) counts.
+//
+// All writes come from one user, far above the per-user comment rate limit (30/min), so start
+// the backend with --bugreport.rate-limit.enabled=false for both runs. Otherwise writes are
+// rejected with 429 before they reach the concurrency limiter; the rate_limited_429 threshold
+// fails the run if that happens.
+//
+//   docker update --cpus 0.25 <postgres-container>     # make Postgres the bottleneck
+//   java -jar backend.jar --bugreport.rate-limit.enabled=false [--bugreport.concurrency-limit.enabled=false]
+//   k6 run -e BASE_URL=http://localhost:8080 -e USER=qa@example.com -e PASSWORD=secret -e BUG_ID=1 perf/k6/overload.js
+//
+// With the limiter, read p99 should stay bounded and excess load should show up as fast 503s.
+// Without it, latency grows for every endpoint as requests queue in Tomcat.
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BUG_ID = __ENV.BUG_ID || '1';
+const HEADERS = {
+  Authorization: 'Basic ' + encoding.b64encode(`${__ENV.USER}:${__ENV.PASSWORD}`),
+  'Content-Type': 'application/json',
+};
+
+const readLatency = new Trend('read_latency', true);
+const writeLatency = new Trend('write_latency', true);
+const bulkLatency = new Trend('bulk_latency', true);
+const shed = new Counter('shed_503');
+const rateLimited = new Counter('rate_limited_429');
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'ramping-arrival-rate',
+      exec: 'read',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 200, duration: '1m' },
+        { target: 1000, duration: '2m' },
+        { target: 1000, duration: '2m' },
+        { target: 50, duration: '1m' },
+      ],
+    },
+    writes: {
+      executor: 'constant-arrival-rate',
+      exec: 'write',
+      rate: 20,
+      timeUnit: '1s',
+      duration: '6m',
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+    },
+    bulk: {
+      executor: 'constant-arrival-rate',
+      exec: 'bulk',
+      rate: 5,
+      timeUnit: '1s',
+      duration: '6m',
+      preAllocatedVUs: 20,
+      maxVUs: 200,
+    },
+  },
+  thresholds: {
+    read_latency: ['p(99)<1000'],
+    rate_limited_429: ['count==0'],
+  },
+};
+
+function record(res, trend) {
+  trend.add(res.timings.duration);
+  if (res.status === 503) {
+    shed.add(1);
+  } else if (res.status === 429) {
+    rateLimited.add(1);
+  }
+}
+
+export function read() {
+  record(http.get(`${BASE_URL}/api/v1/bugs/${BUG_ID}`, { headers: HEADERS }), readLatency);
+}
+
+export function write() {
+  const body = JSON.stringify({ content: `load test comment ${Date.now()}` });
+  record(http.post(`${BASE_URL}/api/v1/bugs/${BUG_ID}/comments`, body, { headers: HEADERS }), writeLatency);
+}
+
+export function bulk() {
+  record(http.get(`${BASE_URL}/api/v1/sync`, { headers: HEADERS }), bulkLatency);
+}